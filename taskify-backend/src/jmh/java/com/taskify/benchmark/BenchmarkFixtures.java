@@ -0,0 +1,90 @@
+package com.taskify.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskify.model.User;
+import com.taskify.repository.TaskRepository;
+import com.taskify.repository.UserRepository;
+import com.taskify.security.JwtAuthenticator;
+import com.taskify.security.JwtFilter;
+import com.taskify.security.JwtUtil;
+import com.taskify.security.OpsUsers;
+import com.taskify.service.TaskService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Builds the beans under test without a Spring context, wired like production.
+ */
+final class BenchmarkFixtures {
+
+    static final String EMAIL = "bench@taskify.com";
+    static final String PASSWORD = "password123";
+    static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        return jwtUtil;
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(EMAIL);
+        user.setPassword(new BCryptPasswordEncoder().encode(PASSWORD));
+        return user;
+    }
+
+    /**
+     * JwtFilter backed by an in-memory repository that knows a single user.
+     */
+    static JwtFilter jwtFilter(JwtUtil jwtUtil, User user) {
+        JwtAuthenticator authenticator = new JwtAuthenticator();
+        ReflectionTestUtils.setField(authenticator, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(authenticator, "userRepository", userRepository(user));
+        JwtFilter filter = new JwtFilter();
+        ReflectionTestUtils.setField(filter, "jwtAuthenticator", authenticator);
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "opsUsers", new OpsUsers(List.of()));
+        return filter;
+    }
+
+    /**
+     * TaskService backed by an in-memory repository that holds no task, so every lookup misses.
+     */
+    static TaskService emptyTaskService() {
+        TaskService taskService = new TaskService();
+        ReflectionTestUtils.setField(taskService, "taskRepository", emptyTaskRepository());
+        return taskService;
+    }
+
+    static TaskRepository emptyTaskRepository() {
+        return (TaskRepository) Proxy.newProxyInstance(TaskRepository.class.getClassLoader(),
+            new Class<?>[] {TaskRepository.class}, (proxy, method, args) -> {
+                if (method.getName().equals("findByIdAndUser")) {
+                    return Optional.empty();
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static UserRepository userRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+            new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+                if (method.getName().equals("findByEmail")) {
+                    return user.getEmail().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
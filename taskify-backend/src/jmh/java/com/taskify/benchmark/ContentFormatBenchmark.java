@@ -0,0 +1,81 @@
+package com.taskify.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskify.controller.TaskController.TaskResponse;
+import com.taskify.model.TaskStatus;
+
+/**
+ * Encoding and decoding of task lists in each format GET /api/tasks negotiates. The encoded size of each
+ * list is printed once per trial, as "# bytes: format size bytes".
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentFormatBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader listReader;
+    private List<TaskResponse> tasks;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same builder defaults as the application's converters
+        objectMapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        listReader = objectMapper.readerForListOf(TaskResponse.class);
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TaskResponse task = new TaskResponse();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDescription(i % 3 == 0 ? null : "Description for task number " + i);
+            task.setStatus(i % 2 == 0 ? TaskStatus.TODO : TaskStatus.DONE);
+            tasks.add(task);
+        }
+        encoded = objectMapper.writeValueAsBytes(tasks);
+        System.out.printf("%n# bytes: %s %d %d%n", format, size, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskResponse> decode() throws IOException {
+        return listReader.readValue(encoded);
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskify.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.accept.ContentNegotiationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.controller.TaskController.TaskResponse;
+import com.taskify.model.Task;
+import com.taskify.model.TaskStatus;
+import com.taskify.web.ResponseEncoder;
+
+/**
+ * Jackson serialization of task lists, as returned by GET /api/tasks.
+ * {@code copyAndWriteTaskList} is the former endpoint path (entities copied to DTOs, then bean
+ * serialization by reflection), {@code streamTaskList} the current one (entities written straight to a
+ * generator into a pooled buffer).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private ResponseEncoder responseEncoder;
+    private List<Task> entities;
+    private List<TaskResponse> tasks;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring Boot builds for the application
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseEncoder = new ResponseEncoder(objectMapper,
+            new MappingJackson2CborHttpMessageConverter(),
+            new MappingJackson2SmileHttpMessageConverter(),
+            new ContentNegotiationManager());
+        entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDescription(i % 3 == 0 ? null : "Description for task number " + i);
+            task.setStatus(i % 2 == 0 ? TaskStatus.TODO : TaskStatus.DONE);
+            entities.add(task);
+        }
+        tasks = entities.stream().map(TaskResponse::fromTask).toList();
+    }
+
+    @Benchmark
+    public byte[] writeTaskList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] copyAndWriteTaskList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(entities.stream().map(TaskResponse::fromTask).toList());
+    }
+
+    @Benchmark
+    public byte[] streamTaskList() throws IOException {
+        return responseEncoder.encode(MediaType.APPLICATION_JSON,
+            generator -> TaskResponse.writeArray(generator, entities));
+    }
+}
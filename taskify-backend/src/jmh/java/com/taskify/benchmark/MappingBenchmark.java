@@ -0,0 +1,60 @@
+package com.taskify.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.taskify.controller.AppointmentController.AppointmentResponse;
+import com.taskify.controller.TaskController.TaskResponse;
+import com.taskify.model.Appointment;
+import com.taskify.model.Task;
+import com.taskify.model.TaskStatus;
+
+/**
+ * Entity to DTO mapping done for every returned task and appointment.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private Task task;
+    private Appointment appointment;
+
+    @Setup
+    public void setUp() {
+        task = new Task();
+        task.setId(42L);
+        task.setTitle("Write the quarterly report");
+        task.setDescription("Collect figures from every team and summarise them");
+        task.setStatus(TaskStatus.TODO);
+
+        appointment = new Appointment();
+        appointment.setId(7L);
+        appointment.setSubject("Planning");
+        appointment.setDate(LocalDateTime.of(2030, 1, 15, 10, 0));
+    }
+
+    @Benchmark
+    public TaskResponse taskResponse() {
+        return TaskResponse.fromTask(task);
+    }
+
+    @Benchmark
+    public AppointmentResponse appointmentResponse() {
+        return AppointmentResponse.fromAppointment(appointment);
+    }
+}
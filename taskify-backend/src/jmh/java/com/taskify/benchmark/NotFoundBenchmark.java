@@ -0,0 +1,80 @@
+package com.taskify.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.taskify.controller.ErrorResponse;
+import com.taskify.exception.NotFoundException;
+import com.taskify.model.User;
+import com.taskify.repository.TaskRepository;
+import com.taskify.service.TaskService;
+
+/**
+ * Cost of a GET on a missing task below the controller, with an in-memory repository that misses:
+ * the previous getTaskById throwing a RuntimeException with its stack trace, the current one throwing
+ * the stackless NotFoundException, and findTaskById returning an empty Optional. Each produces the
+ * error body the 404 handler would send.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotFoundBenchmark {
+
+    private static final String MESSAGE = "Task not found or access denied";
+
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private User user;
+    private long id;
+
+    @Setup
+    public void setUp() {
+        taskService = BenchmarkFixtures.emptyTaskService();
+        taskRepository = BenchmarkFixtures.emptyTaskRepository();
+        user = BenchmarkFixtures.user();
+        id = 42L;
+    }
+
+    /**
+     * TaskService.getTaskById as it was before NotFoundException, inlined against the same repository.
+     */
+    @Benchmark
+    public ErrorResponse getTaskByIdWithStackTrace() {
+        try {
+            return new ErrorResponse(taskRepository.findByIdAndUser(id, user)
+                .orElseThrow(() -> new RuntimeException(MESSAGE))
+                .getTitle());
+        } catch (RuntimeException e) {
+            return new ErrorResponse(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public ErrorResponse getTaskById() {
+        try {
+            return new ErrorResponse(taskService.getTaskById(id, user).getTitle());
+        } catch (NotFoundException e) {
+            return new ErrorResponse(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public ErrorResponse findTaskById() {
+        return taskService.findTaskById(id, user)
+            .map(task -> new ErrorResponse(task.getTitle()))
+            .orElseGet(() -> new ErrorResponse(MESSAGE));
+    }
+}
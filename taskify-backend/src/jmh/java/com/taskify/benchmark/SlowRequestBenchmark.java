@@ -0,0 +1,91 @@
+package com.taskify.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.taskify.web.SlowRequestFilter;
+import com.taskify.web.SlowRequestRecorder;
+import com.taskify.web.SlowRequestRecorder.SlowRequest;
+
+import jakarta.servlet.FilterChain;
+
+/**
+ * Overhead of the slow-request flight recorder: a request through SlowRequestFilter against the bare
+ * chain, plus the recorder's reject path (the common case once a window is full) and insert path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SlowRequestBenchmark {
+
+    private static final byte[] BODY = new byte[256];
+
+    @Param({"none", "recorder"})
+    public String filter;
+
+    private SlowRequestRecorder recorder;
+    private SlowRequestFilter slowRequestFilter;
+    private SlowRequest request;
+    private long insertNanos;
+
+    private final FilterChain chain = (request, response) -> response.getOutputStream().write(BODY);
+
+    @Setup
+    public void setUp() {
+        recorder = new SlowRequestRecorder(10, Duration.ofHours(1), 2);
+        slowRequestFilter = new SlowRequestFilter(recorder);
+        request = new SlowRequest(Instant.now(), "GET", "/api/tasks", 200, 1, 0, 0, 0, 0, 0, 0, List.of());
+        // Fill the window with slow requests so ordinary ones are rejected
+        for (int i = 0; i < 10; i++) {
+            recorder.record(TimeUnit.SECONDS.toNanos(10), request);
+        }
+        insertNanos = TimeUnit.SECONDS.toNanos(10);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse request() throws Exception {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/tasks");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        if (filter.equals("recorder")) {
+            slowRequestFilter.doFilter(servletRequest, servletResponse, chain);
+        } else {
+            chain.doFilter(servletRequest, servletResponse);
+        }
+        return servletResponse;
+    }
+
+    @Benchmark
+    public boolean rejectFast() {
+        return recorder.isCandidate(1_000_000);
+    }
+
+    @Benchmark
+    public boolean insertSlow() {
+        return recorder.record(++insertNanos, request);
+    }
+
+    @TearDown
+    public void tearDown() {
+        recorder.destroy();
+    }
+}
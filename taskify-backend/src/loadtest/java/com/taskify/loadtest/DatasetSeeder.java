@@ -0,0 +1,300 @@
+package com.taskify.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.taskify.TaskifyApplication;
+
+/**
+ * Writes a deterministic synthetic dataset straight into the users, tasks and appointments
+ * tables with batched JDBC inserts, one connection per worker thread.
+ * Tasks and appointments are spread over users following a Zipf law (--skew).
+ * The same options always produce the same rows and IDs.
+ *
+ * <p>Options: --url, --username, --password, --users, --tasks, --appointments, --skew, --seed,
+ * --threads, --batch-size, --user-password, --snapshot (write a compressed SQL script when done),
+ * --restore (load such a script instead of generating).
+ *
+ * <p>Run with {@code mvn -Ploadtest test -Dloadtest.main=com.taskify.loadtest.DatasetSeeder
+ * -Dloadtest.args="--users=100000 --tasks=10000000"}.
+ */
+public final class DatasetSeeder {
+
+    private static final String INSERT_USER = "INSERT INTO users (id, email, password) VALUES (?, ?, ?)";
+    private static final String INSERT_TASK =
+        "INSERT INTO tasks (id, title, description, status, user_id) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_APPOINTMENT =
+        "INSERT INTO appointments (id, subject, date, user_id) VALUES (?, ?, ?, ?)";
+    private static final LocalDateTime FIRST_APPOINTMENT = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int users;
+    private final long tasks;
+    private final long appointments;
+    private final double skew;
+    private final long seed;
+    private final int threads;
+    private final int batchSize;
+    private final String userPassword;
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    private DatasetSeeder(Map<String, String> args) {
+        url = args.getOrDefault("url", "jdbc:h2:file:./target/seed/taskify");
+        username = args.getOrDefault("username", "sa");
+        password = args.getOrDefault("password", "");
+        users = Integer.parseInt(args.getOrDefault("users", "100000"));
+        tasks = Long.parseLong(args.getOrDefault("tasks", "10000000"));
+        appointments = Long.parseLong(args.getOrDefault("appointments", "1000000"));
+        skew = Double.parseDouble(args.getOrDefault("skew", "1.1"));
+        seed = Long.parseLong(args.getOrDefault("seed", "42"));
+        threads = Integer.parseInt(args.getOrDefault("threads",
+            Integer.toString(Runtime.getRuntime().availableProcessors())));
+        batchSize = Integer.parseInt(args.getOrDefault("batch-size", "5000"));
+        userPassword = args.getOrDefault("user-password", "password");
+
+        if (users < 1) {
+            throw new IllegalArgumentException("--users must be at least 1, got " + users);
+        }
+        if (tasks < 0 || appointments < 0) {
+            throw new IllegalArgumentException("--tasks and --appointments must not be negative");
+        }
+        if (!(skew >= 0) || Double.isInfinite(skew)) {
+            throw new IllegalArgumentException("--skew must be a finite number, 0 or more (0 spreads rows evenly)");
+        }
+        if (threads < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("--threads and --batch-size must be positive");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> values = LoadTestOptions.arguments(args);
+        DatasetSeeder seeder = new DatasetSeeder(values);
+        if (values.containsKey("restore")) {
+            seeder.restore(Path.of(values.get("restore")));
+        } else {
+            seeder.seed();
+            if (values.containsKey("snapshot")) {
+                seeder.snapshot(Path.of(values.get("snapshot")));
+            }
+        }
+    }
+
+    private void seed() throws Exception {
+        System.out.printf("Seeding %d users, %d tasks, %d appointments (skew=%.2f, seed=%d, threads=%d) into %s%n",
+            users, tasks, appointments, skew, seed, threads, url);
+        long started = System.nanoTime();
+
+        createSchema();
+        ZipfAllocation taskAllocation = new ZipfAllocation(users, tasks, skew, seed);
+        ZipfAllocation appointmentAllocation = new ZipfAllocation(users, appointments, skew, seed + 1);
+        String passwordHash = new BCryptPasswordEncoder().encode(userPassword);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ScheduledProgress progress = new ScheduledProgress(started);
+        try {
+            int chunk = Math.max(1, users / (threads * 8));
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < users; from += chunk) {
+                int start = from;
+                int end = Math.min(users, from + chunk);
+                futures.add(pool.submit(() -> {
+                    writeChunk(start, end, passwordHash, taskAllocation, appointmentAllocation);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            progress.stop();
+        }
+
+        finish();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("Wrote %d rows in %.1fs (%.0f rows/s)%n",
+            rowsWritten.get(), seconds, rowsWritten.get() / seconds);
+        System.out.println("Every seeded user logs in as userN@seed.taskify.test with password '" + userPassword + "'");
+    }
+
+    /**
+     * Let Hibernate create the schema exactly as the application maps it.
+     */
+    private void createSchema() {
+        // A servlet context on a random port, as the web beans (e.g. response content negotiation) need one
+        new SpringApplicationBuilder(TaskifyApplication.class)
+            .run("--spring.application.name=taskify-seeder",
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--jwt.secret=unused-seeder-secret-that-is-at-least-256-bits-long",
+                "--jwt.expiration=1",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                // Only the schema is needed: the reactive and gRPC servers would bind their fixed ports
+                "--taskify.reactive.enabled=false",
+                "--taskify.grpc.enabled=false")
+            .close();
+    }
+
+    private void writeChunk(int fromUser, int toUser, String passwordHash,
+                            ZipfAllocation taskAllocation, ZipfAllocation appointmentAllocation) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_USER)) {
+                int pending = 0;
+                for (int u = fromUser; u < toUser; u++) {
+                    statement.setLong(1, u + 1L);
+                    statement.setString(2, "user" + (u + 1) + "@seed.taskify.test");
+                    statement.setString(3, passwordHash);
+                    statement.addBatch();
+                    pending = flushIfFull(connection, statement, pending + 1);
+                }
+                flush(connection, statement, pending);
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_TASK)) {
+                int pending = 0;
+                for (int u = fromUser; u < toUser; u++) {
+                    Random random = new Random(seed * 31 + u);
+                    long id = taskAllocation.offset(u) + 1;
+                    for (long n = 0; n < taskAllocation.count(u); n++, id++) {
+                        statement.setLong(1, id);
+                        statement.setString(2, "Task " + (n + 1) + " of user " + (u + 1));
+                        statement.setString(3, random.nextInt(3) == 0 ? null
+                            : "Synthetic task description " + Long.toString(random.nextLong() & Long.MAX_VALUE, 36));
+                        statement.setString(4, random.nextInt(10) < 3 ? "DONE" : "TODO");
+                        statement.setLong(5, u + 1L);
+                        statement.addBatch();
+                        pending = flushIfFull(connection, statement, pending + 1);
+                    }
+                }
+                flush(connection, statement, pending);
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_APPOINTMENT)) {
+                int pending = 0;
+                for (int u = fromUser; u < toUser; u++) {
+                    Random random = new Random(seed * 37 + u);
+                    long id = appointmentAllocation.offset(u) + 1;
+                    for (long n = 0; n < appointmentAllocation.count(u); n++, id++) {
+                        statement.setLong(1, id);
+                        statement.setString(2, "Meeting " + (n + 1) + " of user " + (u + 1));
+                        statement.setTimestamp(3, Timestamp.valueOf(
+                            FIRST_APPOINTMENT.plusMinutes(random.nextInt(365 * 24 * 4) * 15L)));
+                        statement.setLong(4, u + 1L);
+                        statement.addBatch();
+                        pending = flushIfFull(connection, statement, pending + 1);
+                    }
+                }
+                flush(connection, statement, pending);
+            }
+        }
+    }
+
+    private int flushIfFull(Connection connection, PreparedStatement statement, int pending) throws SQLException {
+        if (pending < batchSize) {
+            return pending;
+        }
+        flush(connection, statement, pending);
+        return 0;
+    }
+
+    private void flush(Connection connection, PreparedStatement statement, int pending) throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        statement.executeBatch();
+        connection.commit();
+        rowsWritten.addAndGet(pending);
+    }
+
+    /**
+     * Move ID generators past the seeded rows and refresh optimizer statistics.
+     */
+    private void finish() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + (users + 1L));
+            statement.execute("ALTER TABLE appointments ALTER COLUMN id RESTART WITH " + (appointments + 1));
+            // The pooled optimizer hands out the block below each sequence value; keep one block clear
+            statement.execute("ALTER SEQUENCE tasks_seq RESTART WITH " + (tasks + 51));
+            statement.execute("ANALYZE");
+        }
+    }
+
+    /**
+     * Write the database to a compressed SQL script that {@code --restore} loads back.
+     */
+    private void snapshot(Path file) throws SQLException, IOException {
+        Path absolute = file.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        long started = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("SCRIPT TO '" + absolute.toString().replace("'", "''") + "' COMPRESSION ZIP");
+        }
+        System.out.printf("Snapshot written to %s (%d MB) in %.1fs%n", absolute,
+            Files.size(absolute) / (1024 * 1024), (System.nanoTime() - started) / 1e9);
+    }
+
+    private void restore(Path file) throws SQLException {
+        Path absolute = file.toAbsolutePath();
+        long started = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("RUNSCRIPT FROM '" + absolute.toString().replace("'", "''") + "' COMPRESSION ZIP");
+        }
+        System.out.printf("Restored %s into %s in %.1fs%n", absolute, url, (System.nanoTime() - started) / 1e9);
+    }
+
+    /**
+     * Prints the running row count every few seconds.
+     */
+    private final class ScheduledProgress {
+
+        private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+
+        ScheduledProgress(long started) {
+            timer.scheduleAtFixedRate(() -> {
+                double seconds = (System.nanoTime() - started) / 1e9;
+                System.out.printf("  %,d rows after %.0fs%n", rowsWritten.get(), seconds);
+            }, 5, 5, TimeUnit.SECONDS);
+        }
+
+        void stop() {
+            timer.shutdownNow();
+        }
+    }
+}
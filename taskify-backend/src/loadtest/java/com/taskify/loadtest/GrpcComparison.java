@@ -0,0 +1,189 @@
+package com.taskify.loadtest;
+
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.google.protobuf.MessageLite;
+import com.taskify.grpc.GrpcServer;
+import com.taskify.grpc.v1.ListTasksRequest;
+import com.taskify.grpc.v1.TaskId;
+import com.taskify.grpc.v1.TaskRequest;
+import com.taskify.grpc.v1.TaskResponse;
+import com.taskify.grpc.v1.TaskifyGrpc;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+
+/**
+ * Compares the payload size and latency of the same calls over the REST API and the gRPC API, against
+ * one application started in-process with a user owning --tasks tasks. Calls are issued one at a time
+ * (this measures per-call cost, not throughput) after --warmup unmeasured calls per operation.
+ * Payload bytes are the message bodies only: JSON for REST, protobuf plus the 5-byte gRPC frame prefix
+ * per message for gRPC; HTTP headers are not counted. The rate and concurrency limits are disabled,
+ * since they only apply to REST.
+ *
+ * <p>Options: --tasks=100, --iterations=2000, --warmup=500, --database=jdbc-url.
+ *
+ * <p>Run with {@code mvn -Ploadtest test -Dloadtest.main=com.taskify.loadtest.GrpcComparison
+ * -Dloadtest.args="--tasks=100"}.
+ */
+public final class GrpcComparison {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(30);
+    private static final int GRPC_FRAME_PREFIX = 5;
+
+    private final TaskifyClient client;
+    private final TaskifyGrpc.TaskifyBlockingStub stub;
+    private final SyntheticUser user;
+    private final int iterations;
+    private final int warmup;
+
+    private GrpcComparison(TaskifyClient client, TaskifyGrpc.TaskifyBlockingStub stub, SyntheticUser user,
+                           int iterations, int warmup) {
+        this.client = client;
+        this.stub = stub;
+        this.user = user;
+        this.iterations = iterations;
+        this.warmup = warmup;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestOptions.arguments(args);
+        int tasks = Integer.parseInt(options.getOrDefault("tasks", "100"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "2000"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "500"));
+        if (tasks < 1 || iterations < 1 || warmup < 0) {
+            throw new IllegalArgumentException("--tasks and --iterations must be positive, --warmup not negative");
+        }
+
+        ConfigurableApplicationContext context = LoadTestMain.startApplication(
+            options.getOrDefault("database", "jdbc:h2:mem:grpc-comparison;DB_CLOSE_DELAY=-1"),
+            "--taskify.rate-limit.enabled=false",
+            "--taskify.concurrency-limit.enabled=false");
+        ManagedChannel channel = null;
+        try {
+            TaskifyClient client = new TaskifyClient(
+                "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+            SyntheticUser user = new SyntheticUser("grpc-comparison@taskify.test", "password-grpc");
+            HttpResponse<String> registration = client.register(user).join();
+            if (registration.statusCode() != 201) {
+                throw new IllegalStateException("Registration failed with " + registration.statusCode()
+                    + ": " + registration.body());
+            }
+            user.token = client.field(registration, "token").asText();
+            long firstTaskId = 0;
+            for (int i = 0; i < tasks; i++) {
+                long id = client.field(client.createTask(user, "Task " + i).join(), "id").asLong();
+                firstTaskId = i == 0 ? id : firstTaskId;
+            }
+
+            channel = NettyChannelBuilder.forAddress("localhost", context.getBean(GrpcServer.class).port())
+                .usePlaintext()
+                .build();
+            Metadata headers = new Metadata();
+            headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + user.token);
+            TaskifyGrpc.TaskifyBlockingStub stub = TaskifyGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+
+            System.out.printf("Comparing REST and gRPC over %d calls per operation (%d warm-up), %d tasks%n",
+                iterations, warmup, tasks);
+            new GrpcComparison(client, stub, user, iterations, warmup).run(tasks, firstTaskId);
+        } finally {
+            if (channel != null) {
+                channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            }
+            context.close();
+        }
+    }
+
+    private void run(int tasks, long taskId) {
+        System.out.printf("%-22s %-5s %14s %14s %10s %10s %10s%n",
+            "Operation", "API", "Request bytes", "Response bytes", "p50 ms", "p99 ms", "mean ms");
+
+        compare("List " + tasks + " tasks",
+            () -> 0,
+            () -> restBytes(client.listTasks(user).join()),
+            () -> 0,
+            () -> {
+                int bytes = 0;
+                Iterator<TaskResponse> responses = stub.listTasks(ListTasksRequest.getDefaultInstance());
+                while (responses.hasNext()) {
+                    bytes += grpcBytes(responses.next());
+                }
+                return bytes;
+            });
+
+        TaskId id = TaskId.newBuilder().setId(taskId).build();
+        compare("Get task",
+            () -> 0,
+            () -> restBytes(client.exchange("GET", "/api/tasks/" + taskId, user.token, null).join()),
+            () -> grpcBytes(id),
+            () -> grpcBytes(stub.getTask(id)));
+
+        String json = "{\"title\":\"Compared task\",\"description\":\"Created by the gRPC comparison\"}";
+        TaskRequest request = TaskRequest.newBuilder()
+            .setTitle("Compared task")
+            .setDescription("Created by the gRPC comparison")
+            .build();
+        compare("Create task",
+            () -> json.getBytes(StandardCharsets.UTF_8).length,
+            () -> restBytes(client.exchange("POST", "/api/tasks", user.token, json).join()),
+            () -> grpcBytes(request),
+            () -> grpcBytes(stub.createTask(request)));
+    }
+
+    /**
+     * Measures one operation over both APIs; each call returns the response bytes it received.
+     */
+    private void compare(String operation, IntSupplier restRequestBytes, IntSupplier rest,
+                         IntSupplier grpcRequestBytes, IntSupplier grpc) {
+        printRow(operation, "REST", restRequestBytes.getAsInt(), measure(rest));
+        printRow(operation, "gRPC", grpcRequestBytes.getAsInt(), measure(grpc));
+    }
+
+    private Measurement measure(IntSupplier call) {
+        for (int i = 0; i < warmup; i++) {
+            call.getAsInt();
+        }
+        Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long bytes = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            bytes += call.getAsInt();
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                HIGHEST_TRACKABLE_MICROS));
+        }
+        return new Measurement(bytes / iterations, histogram);
+    }
+
+    private record Measurement(long responseBytes, Histogram histogram) {
+    }
+
+    private static void printRow(String operation, String api, int requestBytes, Measurement measurement) {
+        Histogram histogram = measurement.histogram();
+        System.out.printf("%-22s %-5s %14d %14d %10.3f %10.3f %10.3f%n", operation, api, requestBytes,
+            measurement.responseBytes(), histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0, histogram.getMean() / 1000.0);
+    }
+
+    private static int restBytes(HttpResponse<String> response) {
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("REST call failed with " + response.statusCode() + ": " + response.body());
+        }
+        return response.body().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static int grpcBytes(MessageLite message) {
+        return GRPC_FRAME_PREFIX + message.getSerializedSize();
+    }
+}
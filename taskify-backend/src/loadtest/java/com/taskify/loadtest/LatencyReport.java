@@ -0,0 +1,180 @@
+package com.taskify.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-endpoint latency histograms in microseconds.
+ * Latency is measured from the intended start time of each request, so time spent waiting
+ * behind a slow response counts against the server (coordinated-omission correction).
+ * Only requests whose intended start falls inside the measurement window are recorded.
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final String SUMMARY_FILE = "summary.tsv";
+
+    private static final class Endpoint {
+        final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failedWorkers = new LongAdder();
+    private volatile Throwable workerFailure;
+    private final long windowStart;
+    private final long windowEnd;
+
+    LatencyReport(long windowStart, long windowEnd) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+    }
+
+    void record(String endpoint, long intendedStart, long end, boolean success) {
+        if (intendedStart < windowStart || intendedStart >= windowEnd) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        if (!success) {
+            stats.errors.increment();
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(end - intendedStart);
+        stats.histogram.recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * A request that could not be issued because too many were already in flight.
+     */
+    void recordDropped(long intendedStart) {
+        if (intendedStart >= windowStart && intendedStart < windowEnd) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * A closed-model worker that stopped on an unexpected exception before the end of the run.
+     */
+    void recordFailedWorker(Throwable cause) {
+        failedWorkers.increment();
+        if (workerFailure == null) {
+            workerFailure = cause;
+        }
+    }
+
+    void print(PrintStream out) {
+        double seconds = (windowEnd - windowStart) / 1e9;
+        Map<String, Endpoint> sorted = new TreeMap<>(endpoints);
+        int width = Math.max(8, sorted.keySet().stream().mapToInt(String::length).max().orElse(0));
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+
+        out.printf("%-" + width + "s %10s %8s %12s %10s %10s %10s %10s%n",
+            "Endpoint", "Requests", "Errors", "Throughput/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, Endpoint> entry : sorted.entrySet()) {
+            Endpoint stats = entry.getValue();
+            total.add(stats.histogram);
+            totalErrors += stats.errors.sum();
+            printRow(out, width, entry.getKey(), stats.histogram, stats.errors.sum(), seconds);
+        }
+        printRow(out, width, "TOTAL", total, totalErrors, seconds);
+        if (dropped.sum() > 0) {
+            out.printf("%d requests were not issued because --max-in-flight were already in flight%n", dropped.sum());
+        }
+        if (failedWorkers.sum() > 0) {
+            out.printf("%d workers stopped early, so fewer requests were issued than configured; first cause: %s%n",
+                failedWorkers.sum(), workerFailure);
+        }
+    }
+
+    /**
+     * Write a summary table plus one HdrHistogram percentile distribution per endpoint, in milliseconds.
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<String> summary = new ArrayList<>();
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            Histogram histogram = entry.getValue().histogram;
+            summary.add(String.join("\t", entry.getKey(),
+                Long.toString(histogram.getTotalCount()),
+                Long.toString(entry.getValue().errors.sum()),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9))));
+
+            Path file = directory.resolve(entry.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        Files.write(directory.resolve(SUMMARY_FILE), summary);
+    }
+
+    /**
+     * Print p50/p99/p99.9 of this run next to a previous run written with {@link #write(Path)}.
+     */
+    void compare(Path baselineDirectory, PrintStream out) throws IOException {
+        Map<String, double[]> baseline = new HashMap<>();
+        for (String line : Files.readAllLines(baselineDirectory.resolve(SUMMARY_FILE))) {
+            String[] columns = line.split("\t");
+            baseline.put(columns[0], new double[] {
+                Double.parseDouble(columns[3]), Double.parseDouble(columns[4]), Double.parseDouble(columns[5])});
+        }
+
+        int width = Math.max(8, endpoints.keySet().stream().mapToInt(String::length).max().orElse(0));
+        out.printf("%-" + width + "s %24s %24s %24s%n", "Endpoint", "p50 ms (base -> new)", "p99 ms (base -> new)",
+            "p99.9 ms (base -> new)");
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            double[] before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            Histogram histogram = entry.getValue().histogram;
+            out.printf("%-" + width + "s %24s %24s %24s%n", entry.getKey(),
+                delta(before[0], histogram.getValueAtPercentile(50) / 1000.0),
+                delta(before[1], histogram.getValueAtPercentile(99) / 1000.0),
+                delta(before[2], histogram.getValueAtPercentile(99.9) / 1000.0));
+        }
+    }
+
+    private static String delta(double before, double after) {
+        double change = before == 0 ? 0 : (after - before) * 100 / before;
+        return String.format(Locale.ROOT, "%.2f -> %.2f (%+.0f%%)", before, after, change);
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.3f", micros / 1000.0);
+    }
+
+    private static void printRow(PrintStream out, int width, String name, Histogram histogram, long errorCount,
+                                 double seconds) {
+        if (histogram.getTotalCount() == 0) {
+            out.printf("%-" + width + "s %10d %8d %12s %10s %10s %10s %10s%n",
+                name, 0, errorCount, "-", "-", "-", "-", "-");
+            return;
+        }
+        out.printf("%-" + width + "s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f%n",
+            name,
+            histogram.getTotalCount(),
+            errorCount,
+            histogram.getTotalCount() / seconds,
+            histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0,
+            histogram.getValueAtPercentile(99.9) / 1000.0,
+            histogram.getMaxValue() / 1000.0);
+    }
+}
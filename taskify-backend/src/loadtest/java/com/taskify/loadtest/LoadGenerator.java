@@ -0,0 +1,204 @@
+package com.taskify.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Drives the configured operation mix with either workload model.
+ * <ul>
+ *   <li>closed: a fixed number of workers, each waiting for its response before the next request.
+ *       With --rate each worker is paced on a fixed schedule, otherwise it runs back to back.</li>
+ *   <li>open: requests start on a fixed schedule at --rate per second whatever the response times.</li>
+ * </ul>
+ */
+final class LoadGenerator {
+
+    record Outcome(Operation operation, boolean success) {
+    }
+
+    private final LoadTestOptions options;
+    private final TaskifyClient client;
+    private final List<SyntheticUser> users;
+
+    LoadGenerator(LoadTestOptions options, TaskifyClient client, List<SyntheticUser> users) {
+        this.options = options;
+        this.client = client;
+        this.users = users;
+    }
+
+    /**
+     * Run warmup plus measurement and return the recorded latencies.
+     */
+    LatencyReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        long windowStart = start + options.warmup.toNanos();
+        long end = windowStart + options.duration.toNanos();
+        LatencyReport report = new LatencyReport(windowStart, end);
+
+        if (options.model == LoadTestOptions.Model.OPEN) {
+            runOpen(report, start, end);
+        } else {
+            runClosed(report, start, end);
+        }
+        return report;
+    }
+
+    private void runClosed(LatencyReport report, long start, long end) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency);
+        long interval = options.rate > 0 ? (long) (1e9 * options.concurrency / options.rate) : 0;
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int w = 0; w < options.concurrency; w++) {
+            Random random = new Random(options.seed + w);
+            long firstStart = start + (interval * w) / options.concurrency;
+            futures.add(workers.submit(() -> {
+                long next = firstStart;
+                while (true) {
+                    long intended = interval > 0 ? next : System.nanoTime();
+                    if (intended >= end) {
+                        return;
+                    }
+                    if (interval > 0) {
+                        parkUntil(intended);
+                        next += interval;
+                    }
+                    SyntheticUser user = users.get(random.nextInt(users.size()));
+                    Outcome outcome;
+                    try {
+                        outcome = execute(options.nextOperation(random), user).join();
+                    } catch (RuntimeException e) {
+                        outcome = new Outcome(Operation.LIST, false);
+                    }
+                    report.record(outcome.operation().name(), intended, System.nanoTime(), outcome.success());
+                    if (interval == 0 && !options.thinkTime.isZero()) {
+                        LockSupport.parkNanos(options.thinkTime.toNanos());
+                    }
+                }
+            }));
+        }
+
+        workers.shutdown();
+        awaitWorkers(futures, report);
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private void runOpen(LatencyReport report, long start, long end) throws InterruptedException {
+        Random random = new Random(options.seed);
+        long interval = (long) (1e9 / options.rate);
+        AtomicInteger inFlight = new AtomicInteger();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            parkUntil(intended);
+            if (inFlight.get() >= options.maxInFlight) {
+                report.recordDropped(intended);
+                continue;
+            }
+            SyntheticUser user = users.get(random.nextInt(users.size()));
+            Operation operation = options.nextOperation(random);
+            inFlight.incrementAndGet();
+            execute(operation, user).whenComplete((outcome, error) -> {
+                inFlight.decrementAndGet();
+                if (error != null) {
+                    report.record(operation.name(), intended, System.nanoTime(), false);
+                } else {
+                    report.record(outcome.operation().name(), intended, System.nanoTime(), outcome.success());
+                }
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Issue one operation. Update and delete fall back to create when the user owns no task.
+     */
+    private CompletableFuture<Outcome> execute(Operation operation, SyntheticUser user) {
+        switch (operation) {
+            case LOGIN:
+                return client.login(user).thenApply(response -> {
+                    JsonNode token = client.field(response, "token");
+                    if (response.statusCode() == 200 && token != null) {
+                        user.token = token.asText();
+                    }
+                    return new Outcome(operation, response.statusCode() == 200);
+                });
+            case LIST:
+                return client.listTasks(user).thenApply(response -> outcome(operation, response, 200));
+            case UPDATE: {
+                Long id = user.taskIds.pollFirst();
+                if (id == null) {
+                    return create(user);
+                }
+                String status = (id & 1) == 0 ? "DONE" : "TODO";
+                return client.updateTask(user, id, status).thenApply(response -> {
+                    user.taskIds.offerLast(id);
+                    return outcome(operation, response, 200);
+                });
+            }
+            case DELETE: {
+                Long id = user.taskIds.pollLast();
+                if (id == null) {
+                    return create(user);
+                }
+                return client.deleteTask(user, id).thenApply(response -> outcome(operation, response, 204));
+            }
+            case CREATE:
+            default:
+                return create(user);
+        }
+    }
+
+    CompletableFuture<Outcome> create(SyntheticUser user) {
+        return client.createTask(user, "Load task").thenApply(response -> {
+            JsonNode id = client.field(response, "id");
+            if (response.statusCode() == 201 && id != null) {
+                user.taskIds.offerLast(id.asLong());
+            }
+            return outcome(Operation.CREATE, response, 201);
+        });
+    }
+
+    private static Outcome outcome(Operation operation, HttpResponse<String> response, int expectedStatus) {
+        return new Outcome(operation, response.statusCode() == expectedStatus);
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Wait for the closed-model workers; a worker that died stops issuing requests, so it is counted in
+     * the report rather than lost in the console.
+     */
+    private static void awaitWorkers(List<Future<?>> futures, LatencyReport report) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                report.recordFailedWorker(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.taskify.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.taskify.TaskifyApplication;
+import com.taskify.reactive.ReactiveReadServer;
+
+/**
+ * Macro load test: starts TaskifyApplication on a random port, on an in-memory H2 database or
+ * the one given by --database (e.g. a DatasetSeeder output), or targets --target=http://host:port.
+ * It registers synthetic users, drives the configured mix and prints p50/p99/p99.9 and
+ * throughput per endpoint.
+ * An embedded instance runs requests on virtual or platform threads as given by --threads; virtual threads
+ * need a Java 21 build ({@code -Pjava21}). With --reads=reactive, task lists are read from the reactive
+ * read API instead of the MVC controller, on the same data; --baseline=dir compares with an earlier run.
+ * --filters=none turns off the optional servlet filters (limits, request metrics and profiling), which the
+ * reactive server does not run, so both read paths are compared with the same per-request work.
+ *
+ * <p>Run with {@code mvn -Ploadtest test -Dloadtest.args="--model=open --rate=500 --duration=60s"}.
+ */
+public final class LoadTestMain {
+
+    // Servlet filters that the reactive read server has no counterpart for; JWT checks stay on both sides
+    private static final List<String> WITHOUT_FILTERS = List.of(
+        "--taskify.rate-limit.enabled=false",
+        "--taskify.concurrency-limit.enabled=false",
+        "--taskify.jdbc.metrics.enabled=false",
+        "--taskify.flight-recorder.enabled=false",
+        "--taskify.server-timing.enabled=false",
+        "--taskify.allocation-metrics.enabled=false",
+        "--taskify.heavy-users.enabled=false");
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.target;
+        String readBaseUrl = options.reactiveTarget;
+        if (baseUrl == null) {
+            List<String> properties = new ArrayList<>();
+            if (options.threads != null) {
+                properties.add("--spring.threads.virtual.enabled=" + options.threads.equals("virtual"));
+            }
+            if (!options.filters) {
+                properties.addAll(WITHOUT_FILTERS);
+            }
+            context = startApplication(options.database, properties.toArray(String[]::new));
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            System.out.println("Serving requests on "
+                + (Threading.VIRTUAL.isActive(context.getEnvironment()) ? "virtual" : "platform") + " threads");
+            if (options.reads == LoadTestOptions.Reads.REACTIVE) {
+                readBaseUrl = "http://localhost:" + context.getBean(ReactiveReadServer.class).port();
+            }
+        }
+        if (options.reads == LoadTestOptions.Reads.SERVLET) {
+            readBaseUrl = baseUrl;
+        }
+
+        try {
+            TaskifyClient client = new TaskifyClient(baseUrl, readBaseUrl);
+            System.out.println("Seeding " + options.users + " users against " + baseUrl);
+            List<SyntheticUser> users = seedUsers(client, options);
+
+            System.out.println("Running " + options.describe());
+            LatencyReport report = new LoadGenerator(options, client, users).run();
+
+            report.print(System.out);
+            Path reportDir = Path.of(options.reportDir);
+            report.write(reportDir);
+            System.out.println("Latency distributions written to " + reportDir.toAbsolutePath());
+            if (options.baseline != null) {
+                report.compare(Path.of(options.baseline), System.out);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * Start the application on a random port against the given JDBC URL.
+     * @param properties extra --name=value application properties
+     */
+    static ConfigurableApplicationContext startApplication(String database, String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.application.name=taskify-loadtest",
+            "--server.port=0",
+            "--spring.datasource.url=" + database,
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.show-sql=false",
+            "--jwt.secret=" + UUID.randomUUID() + UUID.randomUUID(),
+            "--jwt.expiration=86400000",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=WARN",
+            "--taskify.reactive.port=0",
+            "--taskify.grpc.port=0"));
+        args.addAll(List.of(properties));
+        return new SpringApplicationBuilder(TaskifyApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static List<SyntheticUser> seedUsers(TaskifyClient client, LoadTestOptions options) {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<SyntheticUser> users = new ArrayList<>(options.users);
+        List<CompletableFuture<?>> registrations = new ArrayList<>(options.users);
+        LoadGenerator seeder = new LoadGenerator(options, client, users);
+
+        for (int i = 0; i < options.users; i++) {
+            SyntheticUser user = new SyntheticUser("load-" + runId + "-" + i + "@taskify.test", "password-" + i);
+            users.add(user);
+            registrations.add(client.retryingOverload(() -> client.register(user)).thenCompose(response -> {
+                if (response.statusCode() != 201) {
+                    throw new IllegalStateException("Registration failed with " + response.statusCode()
+                        + ": " + response.body());
+                }
+                user.token = client.field(response, "token").asText();
+                CompletableFuture<?> tasks = CompletableFuture.completedFuture(null);
+                for (int t = 0; t < options.tasksPerUser; t++) {
+                    tasks = tasks.thenCompose(ignored -> seeder.create(user));
+                }
+                return tasks;
+            }));
+        }
+        CompletableFuture.allOf(registrations.toArray(CompletableFuture[]::new)).join();
+        return users;
+    }
+}
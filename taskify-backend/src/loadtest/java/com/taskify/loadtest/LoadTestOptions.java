@@ -0,0 +1,143 @@
+package com.taskify.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Command-line options, given as --name=value.
+ */
+final class LoadTestOptions {
+
+    enum Model {
+        CLOSED,
+        OPEN
+    }
+
+    /**
+     * Server that task lists are read from.
+     */
+    enum Reads {
+        SERVLET,
+        REACTIVE
+    }
+
+    final Model model;
+    final int users;
+    final int tasksPerUser;
+    final int concurrency;
+    final double rate;
+    final Duration warmup;
+    final Duration duration;
+    final Duration thinkTime;
+    final int maxInFlight;
+    final String target;
+    final String database;
+    final String threads;
+    final Reads reads;
+    final boolean filters;
+    final String reactiveTarget;
+    final String baseline;
+    final long seed;
+    final String reportDir;
+    private final EnumMap<Operation, Integer> mix;
+    private final int totalWeight;
+
+    private LoadTestOptions(Map<String, String> args) {
+        model = Model.valueOf(args.getOrDefault("model", "closed").toUpperCase());
+        users = Integer.parseInt(args.getOrDefault("users", "50"));
+        tasksPerUser = Integer.parseInt(args.getOrDefault("tasks-per-user", "20"));
+        concurrency = Integer.parseInt(args.getOrDefault("concurrency", "16"));
+        rate = Double.parseDouble(args.getOrDefault("rate", model == Model.OPEN ? "200" : "0"));
+        warmup = DurationStyle.detectAndParse(args.getOrDefault("warmup", "10s"));
+        duration = DurationStyle.detectAndParse(args.getOrDefault("duration", "60s"));
+        thinkTime = DurationStyle.detectAndParse(args.getOrDefault("think-time", "0ms"));
+        maxInFlight = Integer.parseInt(args.getOrDefault("max-in-flight", "10000"));
+        target = args.get("target");
+        database = args.getOrDefault("database", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        threads = args.get("threads");
+        reads = Reads.valueOf(args.getOrDefault("reads", "servlet").toUpperCase());
+        filters = !args.getOrDefault("filters", "all").equals("none");
+        reactiveTarget = args.get("reactive-target");
+        baseline = args.get("baseline");
+        seed = Long.parseLong(args.getOrDefault("seed", "42"));
+        reportDir = args.getOrDefault("report-dir", "target/loadtest");
+        mix = parseMix(args.getOrDefault("mix", "login:2,list:50,create:20,update:20,delete:8"));
+        totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+
+        if (model == Model.OPEN && rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive for the open model");
+        }
+        if (threads != null && !threads.equals("virtual") && !threads.equals("platform")) {
+            throw new IllegalArgumentException("--threads must be virtual or platform");
+        }
+        if (!args.getOrDefault("filters", "all").matches("all|none")) {
+            throw new IllegalArgumentException("--filters must be all or none");
+        }
+        if (!filters && target != null) {
+            throw new IllegalArgumentException("--filters=none only applies to an embedded instance");
+        }
+        if (reads == Reads.REACTIVE && target != null && reactiveTarget == null) {
+            throw new IllegalArgumentException("--reads=reactive with --target also needs --reactive-target");
+        }
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("--mix must give at least one operation a positive weight");
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        return new LoadTestOptions(arguments(args));
+    }
+
+    /**
+     * Parse --name=value arguments, shared by the tools in this package.
+     */
+    static Map<String, String> arguments(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return values;
+    }
+
+    /**
+     * Pick the next operation according to the configured mix.
+     */
+    Operation nextOperation(Random random) {
+        int pick = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    String describe() {
+        return "model=" + model.name().toLowerCase() + ", users=" + users + ", concurrency=" + concurrency
+            + ", rate=" + rate + "/s, warmup=" + warmup.toSeconds() + "s, duration=" + duration.toSeconds()
+            + "s, mix=" + mix + ", reads=" + reads.name().toLowerCase() + (filters ? "" : ", filters=none")
+            + (threads != null ? ", threads=" + threads : "");
+    }
+
+    private static EnumMap<Operation, Integer> parseMix(String value) {
+        EnumMap<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid --mix entry: " + part);
+            }
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
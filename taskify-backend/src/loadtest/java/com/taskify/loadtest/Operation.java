@@ -0,0 +1,12 @@
+package com.taskify.loadtest;
+
+/**
+ * Endpoints exercised by the load generator.
+ */
+enum Operation {
+    LOGIN,
+    LIST,
+    CREATE,
+    UPDATE,
+    DELETE
+}
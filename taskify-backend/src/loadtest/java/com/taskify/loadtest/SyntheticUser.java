@@ -0,0 +1,19 @@
+package com.taskify.loadtest;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * A registered user and the tasks it currently owns.
+ */
+final class SyntheticUser {
+
+    final String email;
+    final String password;
+    final ConcurrentLinkedDeque<Long> taskIds = new ConcurrentLinkedDeque<>();
+    volatile String token;
+
+    SyntheticUser(String email, String password) {
+        this.email = email;
+        this.password = password;
+    }
+}
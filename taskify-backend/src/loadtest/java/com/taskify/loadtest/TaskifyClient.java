@@ -0,0 +1,139 @@
+package com.taskify.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Minimal asynchronous HTTP client for the Taskify API.
+ * Task lists can be read from a different server, such as the reactive read API.
+ */
+final class TaskifyClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String readBaseUrl;
+
+    TaskifyClient(String baseUrl) {
+        this(baseUrl, baseUrl);
+    }
+
+    TaskifyClient(String baseUrl, String readBaseUrl) {
+        this.baseUrl = baseUrl;
+        this.readBaseUrl = readBaseUrl;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    CompletableFuture<HttpResponse<String>> register(SyntheticUser user) {
+        return send(post("/api/auth/register", null, credentials(user)));
+    }
+
+    CompletableFuture<HttpResponse<String>> login(SyntheticUser user) {
+        return send(post("/api/auth/login", null, credentials(user)));
+    }
+
+    CompletableFuture<HttpResponse<String>> listTasks(SyntheticUser user) {
+        return send(request(readBaseUrl, "/api/tasks", user.token).GET().build());
+    }
+
+    CompletableFuture<HttpResponse<String>> createTask(SyntheticUser user, String title) {
+        String body = "{\"title\":\"" + title + "\",\"description\":\"Created by the load generator\"}";
+        return send(post("/api/tasks", user.token, body));
+    }
+
+    CompletableFuture<HttpResponse<String>> updateTask(SyntheticUser user, long id, String status) {
+        String body = "{\"title\":\"Updated task " + id + "\",\"status\":\"" + status + "\"}";
+        return send(request("/api/tasks/" + id, user.token)
+            .header("Content-Type", "application/json")
+            .PUT(HttpRequest.BodyPublishers.ofString(body))
+            .build());
+    }
+
+    CompletableFuture<HttpResponse<String>> deleteTask(SyntheticUser user, long id) {
+        return send(request("/api/tasks/" + id, user.token).DELETE().build());
+    }
+
+    /**
+     * Send an arbitrary request; used to replay captured traffic.
+     */
+    CompletableFuture<HttpResponse<String>> exchange(String method, String path, String token, String body) {
+        HttpRequest.Builder builder = request(path, token);
+        if (body == null) {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+        }
+        return send(builder.build());
+    }
+
+    /**
+     * Send a setup request, retrying while the server sheds load (503) after its Retry-After delay.
+     */
+    CompletableFuture<HttpResponse<String>> retryingOverload(Supplier<CompletableFuture<HttpResponse<String>>> call) {
+        return retryingOverload(call, 10);
+    }
+
+    private CompletableFuture<HttpResponse<String>> retryingOverload(
+            Supplier<CompletableFuture<HttpResponse<String>>> call, int attempts) {
+        return call.get().thenCompose(response -> {
+            if (response.statusCode() != 503 || attempts <= 1) {
+                return CompletableFuture.completedFuture(response);
+            }
+            long delay = response.headers().firstValueAsLong("Retry-After").orElse(1);
+            return CompletableFuture.supplyAsync(() -> null, CompletableFuture.delayedExecutor(delay, TimeUnit.SECONDS))
+                .thenCompose(ignored -> retryingOverload(call, attempts - 1));
+        });
+    }
+
+    /**
+     * Read a top-level field from a JSON response body.
+     */
+    JsonNode field(HttpResponse<String> response, String name) {
+        try {
+            return objectMapper.readTree(response.body()).get(name);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest post(String path, String token, String body) {
+        return request(path, token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return request(baseUrl, path, token);
+    }
+
+    private static HttpRequest.Builder request(String base, String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(base + path))
+            .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static String credentials(SyntheticUser user) {
+        return "{\"email\":\"" + user.email + "\",\"password\":\"" + user.password + "\"}";
+    }
+}
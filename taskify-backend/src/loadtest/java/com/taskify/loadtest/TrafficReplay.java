@@ -0,0 +1,252 @@
+package com.taskify.loadtest;
+
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskify.web.capture.CaptureReader;
+import com.taskify.web.capture.CaptureRecord;
+
+/**
+ * Replays traffic recorded with {@code taskify.capture.enabled=true} against a build of Taskify,
+ * keeping the original arrival times (optionally sped up with --speed) and reporting latency per
+ * route template. Each captured user pseudonym gets its own freshly registered user; request bodies
+ * are rebuilt from their recorded shapes and {id} placeholders are filled with resources the replayed
+ * user created earlier in the run, or a missing id when the original request got a 404.
+ *
+ * <p>Options: --capture=dir|file (required), --speed=1.0, --target=http://host:port or --database=jdbc-url,
+ * --max-in-flight=10000, --report-dir=target/replay, --baseline=dir of a previous replay to compare with.
+ *
+ * <p>Run with {@code mvn -Ploadtest test -Dloadtest.main=com.taskify.loadtest.TrafficReplay
+ * -Dloadtest.args="--capture=data/capture --baseline=target/replay-main"}.
+ */
+public final class TrafficReplay {
+
+    private static final long MISSING_ID = Long.MAX_VALUE / 2;
+    private static final String ID_PLACEHOLDER = "{id}";
+
+    private final TaskifyClient client;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, ReplayUser> users = new HashMap<>();
+    private final List<SyntheticUser> anonymous = new ArrayList<>();
+    private int registered;
+
+    /**
+     * A replayed user and the ids of the resources it created, per collection path.
+     */
+    private static final class ReplayUser {
+        final SyntheticUser user;
+        final Map<String, ConcurrentLinkedDeque<Long>> ids = new ConcurrentHashMap<>();
+
+        ReplayUser(SyntheticUser user) {
+            this.user = user;
+        }
+
+        ConcurrentLinkedDeque<Long> ids(String collection) {
+            return ids.computeIfAbsent(collection, key -> new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    private TrafficReplay(TaskifyClient client) {
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestOptions.arguments(args);
+        String capture = options.get("capture");
+        if (capture == null) {
+            throw new IllegalArgumentException("--capture=dir|file is required");
+        }
+        double speed = Double.parseDouble(options.getOrDefault("speed", "1.0"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+        if (speed <= 0) {
+            throw new IllegalArgumentException("--speed must be positive");
+        }
+
+        List<CaptureRecord> records = CaptureReader.read(Path.of(capture));
+        if (records.isEmpty()) {
+            throw new IllegalArgumentException("No captured requests in " + capture);
+        }
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("target");
+        if (baseUrl == null) {
+            context = LoadTestMain.startApplication(
+                options.getOrDefault("database", "jdbc:h2:mem:replay;DB_CLOSE_DELAY=-1"));
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+
+        try {
+            TrafficReplay replay = new TrafficReplay(new TaskifyClient(baseUrl));
+            replay.registerUsers(records);
+            System.out.printf("Replaying %d requests from %d users against %s at %.2fx%n",
+                records.size(), replay.users.size(), baseUrl, speed);
+            LatencyReport report = replay.run(records, speed, maxInFlight);
+
+            report.print(System.out);
+            Path reportDir = Path.of(options.getOrDefault("report-dir", "target/replay"));
+            report.write(reportDir);
+            System.out.println("Latency distributions written to " + reportDir.toAbsolutePath());
+            if (options.containsKey("baseline")) {
+                report.compare(Path.of(options.get("baseline")), System.out);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private void registerUsers(List<CaptureRecord> records) {
+        List<CompletableFuture<?>> registrations = new ArrayList<>();
+        for (CaptureRecord record : records) {
+            if (record.userPseudonym() != 0 && !users.containsKey(record.userPseudonym())) {
+                ReplayUser replayUser = new ReplayUser(newUser());
+                users.put(record.userPseudonym(), replayUser);
+                registrations.add(register(replayUser.user));
+            }
+        }
+        // Logins in the capture are anonymous; they log in one of a small pool of users
+        for (int i = 0; i < 8; i++) {
+            SyntheticUser user = newUser();
+            anonymous.add(user);
+            registrations.add(register(user));
+        }
+        CompletableFuture.allOf(registrations.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private SyntheticUser newUser() {
+        int index = registered++;
+        return new SyntheticUser("replay-" + runId + "-" + index + "@taskify.test", "password-" + index);
+    }
+
+    private CompletableFuture<?> register(SyntheticUser user) {
+        return client.retryingOverload(() -> client.register(user)).thenAccept(response -> {
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Registration failed with " + response.statusCode()
+                    + ": " + response.body());
+            }
+            user.token = client.field(response, "token").asText();
+        });
+    }
+
+    private LatencyReport run(List<CaptureRecord> records, double speed, int maxInFlight) {
+        long firstStart = records.get(0).startEpochMicros();
+        long lastStart = records.get(records.size() - 1).startEpochMicros();
+        long start = System.nanoTime();
+        long end = start + (long) (TimeUnit.MICROSECONDS.toNanos(lastStart - firstStart) / speed) + 1;
+        LatencyReport report = new LatencyReport(start, end);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        int sequence = 0;
+
+        for (CaptureRecord record : records) {
+            long intended = start + (long) (TimeUnit.MICROSECONDS.toNanos(record.startEpochMicros() - firstStart)
+                / speed);
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                report.recordDropped(intended);
+                continue;
+            }
+            String endpoint = record.method() + " " + record.pathTemplate();
+            CompletableFuture<?> request = replay(record, sequence++)
+                .handle((response, failure) -> {
+                    inFlight.release();
+                    boolean success = failure == null && response.statusCode() == record.status();
+                    report.record(endpoint, intended, System.nanoTime(), success);
+                    return null;
+                });
+            pending.add(request);
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return report;
+    }
+
+    private CompletableFuture<HttpResponse<String>> replay(CaptureRecord record, int sequence) {
+        String template = record.pathTemplate();
+        if (template.equals("/api/auth/login")) {
+            return client.login(anonymous.get(sequence % anonymous.size()));
+        }
+        if (template.equals("/api/auth/register")) {
+            return client.register(newUser());
+        }
+
+        ReplayUser replayUser = users.get(record.userPseudonym());
+        String token = replayUser != null ? replayUser.user.token : null;
+        String body = record.bodyShape().isEmpty() ? null : synthesizeBody(record.bodyShape());
+
+        int placeholder = template.indexOf(ID_PLACEHOLDER);
+        if (placeholder < 0) {
+            CompletableFuture<HttpResponse<String>> response = client.exchange(record.method(), template, token, body);
+            if (replayUser != null && record.method().equals("POST")) {
+                ConcurrentLinkedDeque<Long> ids = replayUser.ids(template);
+                response = response.thenApply(created -> {
+                    JsonNode id = created.statusCode() == 201 ? client.field(created, "id") : null;
+                    if (id != null) {
+                        ids.add(id.asLong());
+                    }
+                    return created;
+                });
+            }
+            return response;
+        }
+
+        String collection = template.substring(0, placeholder - 1);
+        long id = MISSING_ID;
+        if (replayUser != null && record.status() != 404) {
+            ConcurrentLinkedDeque<Long> ids = replayUser.ids(collection);
+            Long existing = record.method().equals("DELETE") ? ids.pollLast() : ids.peekLast();
+            if (existing != null) {
+                id = existing;
+            }
+        }
+        String path = template.replace(ID_PLACEHOLDER, Long.toString(id));
+        return client.exchange(record.method(), path, token, body);
+    }
+
+    /**
+     * Rebuild a JSON body from a shape recorded by {@code BodyShape}.
+     */
+    static String synthesizeBody(String shape) {
+        if (shape.equals("?")) {
+            return "{}";
+        }
+        StringBuilder body = new StringBuilder("{");
+        for (String field : shape.split(",")) {
+            int separator = field.lastIndexOf(':');
+            String name = field.substring(0, separator);
+            String type = field.substring(separator + 1);
+            if (body.length() > 1) {
+                body.append(',');
+            }
+            body.append('"').append(name).append("\":");
+            switch (type.charAt(0)) {
+                case 's' -> body.append('"').append("x".repeat(Integer.parseInt(type.substring(1)))).append('"');
+                case '=' -> body.append('"').append(type.substring(1)).append('"');
+                case 'd' -> body.append("\"2030-01-15T10:00:00\"");
+                case 'n' -> body.append('1');
+                case 'b' -> body.append("true");
+                case 'o' -> body.append("{}");
+                case 'a' -> body.append("[]");
+                default -> body.append("null");
+            }
+        }
+        return body.append('}').toString();
+    }
+}
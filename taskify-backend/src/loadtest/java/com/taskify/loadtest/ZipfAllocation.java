@@ -0,0 +1,75 @@
+package com.taskify.loadtest;
+
+import java.util.Random;
+
+/**
+ * Splits a total row count across users following a Zipf law: the user of rank r gets a share
+ * proportional to 1 / r^exponent. Ranks are shuffled with the seed, so heavy users are spread
+ * over the ID range, and the result is the same for the same inputs.
+ */
+final class ZipfAllocation {
+
+    private final long[] counts;
+    private final long[] offsets;
+
+    ZipfAllocation(int users, long total, double exponent, long seed) {
+        if (users < 1) {
+            throw new IllegalArgumentException("At least one user is needed to own rows");
+        }
+        double[] weights = new double[users];
+        double sum = 0;
+        for (int rank = 1; rank <= users; rank++) {
+            weights[rank - 1] = 1.0 / Math.pow(rank, exponent);
+            sum += weights[rank - 1];
+        }
+
+        long[] byRank = new long[users];
+        long assigned = 0;
+        for (int r = 0; r < users; r++) {
+            byRank[r] = (long) Math.floor(total * weights[r] / sum);
+            assigned += byRank[r];
+        }
+        // Hand the rounding remainder to the heaviest ranks
+        for (int r = 0; assigned < total; r = (r + 1) % users) {
+            byRank[r]++;
+            assigned++;
+        }
+
+        int[] rankOfUser = shuffledRanks(users, seed);
+        counts = new long[users];
+        offsets = new long[users + 1];
+        for (int u = 0; u < users; u++) {
+            counts[u] = byRank[rankOfUser[u]];
+            offsets[u + 1] = offsets[u] + counts[u];
+        }
+    }
+
+    /**
+     * Rows owned by the user at the given zero-based index.
+     */
+    long count(int user) {
+        return counts[user];
+    }
+
+    /**
+     * Number of rows owned by all users before the given index; used to assign IDs.
+     */
+    long offset(int user) {
+        return offsets[user];
+    }
+
+    private static int[] shuffledRanks(int users, long seed) {
+        int[] ranks = new int[users];
+        for (int i = 0; i < users; i++) {
+            ranks[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = users - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = tmp;
+        }
+        return ranks;
+    }
+}
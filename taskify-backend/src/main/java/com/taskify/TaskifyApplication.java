@@ -2,12 +2,16 @@ package com.taskify;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
 /**
  * Main entry point for the Taskify application.
  * Task and Appointment Management System.
+ * R2DBC auto-configuration is excluded: a ConnectionFactory bean would make Boot skip the JPA DataSource.
+ * The reactive read API owns its own connection pool instead.
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class TaskifyApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,48 @@
+package com.taskify.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLTypeUtil;
+
+/**
+ * Cost limits of the GraphQL API, checked on the parsed query before any resolver runs so an
+ * expensive query is rejected without touching the database.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    // Page size of list fields that do not pass "first"; matches the schema default
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${taskify.graphql.max-depth:6}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    /**
+     * A list field costs its page size times the cost of one element, any other field one plus the cost
+     * of its selection, so the limit bounds the number of values a query can return.
+     */
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${taskify.graphql.max-complexity:5000}") int maxComplexity) {
+        FieldComplexityCalculator calculator = (environment, childComplexity) -> {
+            if (!(GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()) instanceof GraphQLList)) {
+                return 1 + childComplexity;
+            }
+            return pageSize(environment.getArguments().get("first")) * (1 + childComplexity);
+        };
+        return new MaxQueryComplexityInstrumentation(maxComplexity, calculator);
+    }
+
+    private static int pageSize(Object first) {
+        return first instanceof Integer size ? Math.max(size, 1) : DEFAULT_PAGE_SIZE;
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskify.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.taskify.jdbc.StatementMetricsDataSource;
+import com.taskify.jdbc.StatementRecorder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * JDBC statement metrics and slow-query log.
+ * Wraps the application DataSource; Hikari pool metrics keep working because Boot unwraps it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskify.jdbc.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcMetricsConfig {
+
+    /**
+     * Wrap every DataSource bean in a {@link StatementMetricsDataSource}
+     */
+    @Bean
+    public static BeanPostProcessor statementMetricsDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${taskify.jdbc.slow-query-threshold:100ms}") Duration slowQueryThreshold,
+            @Value("${taskify.jdbc.slow-query-bind-sample-rate:0.1}") double bindSampleRate) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementMetricsDataSource)) {
+                    StatementRecorder recorder = new StatementRecorder(meterRegistry.getObject(), slowQueryThreshold,
+                        bindSampleRate);
+                    return new StatementMetricsDataSource(dataSource, recorder);
+                }
+                return bean;
+            }
+        };
+    }
+}
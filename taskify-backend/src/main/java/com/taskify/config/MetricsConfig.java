@@ -76,4 +76,27 @@ public class MetricsConfig {
                 .tag("type", "auth")
                 .register(registry);
     }
+
+    /**
+     * Counter for list reads that ran their own query.
+     * Coalesced ratio: coalesced / (executed + coalesced).
+     */
+    @Bean
+    public Counter readExecutedCounter(MeterRegistry registry) {
+        return Counter.builder("taskify.reads")
+                .description("List reads by single-flight outcome")
+                .tag("outcome", "executed")
+                .register(registry);
+    }
+
+    /**
+     * Counter for list reads served from an identical in-flight read
+     */
+    @Bean
+    public Counter readCoalescedCounter(MeterRegistry registry) {
+        return Counter.builder("taskify.reads")
+                .description("List reads by single-flight outcome")
+                .tag("outcome", "coalesced")
+                .register(registry);
+    }
 }
@@ -1,7 +1,6 @@
 package com.taskify.config;
 
 import java.util.Arrays;
-import java.util.Collections;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -23,6 +22,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.taskify.repository.UserRepository;
 import com.taskify.security.JwtFilter;
+import com.taskify.security.OpsUsers;
+import com.taskify.security.RateLimitFilter;
 
 /**
  * Security configuration for JWT authentication.
@@ -34,9 +35,15 @@ public class SecurityConfig {
     @Autowired
     private JwtFilter jwtFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private OpsUsers opsUsers;
+
     /**
      * Configure the security filter chain.
      */
@@ -52,6 +59,8 @@ public class SecurityConfig {
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/api-docs/**", "/v3/api-docs/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                // Profiling endpoints expose SQL and stack traces
+                .requestMatchers("/actuator/jfr/**", "/actuator/slowrequests/**", "/actuator/heavyusers/**").hasRole(OpsUsers.ROLE)
                 .requestMatchers("/actuator/**").permitAll()
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
@@ -59,7 +68,8 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
-            .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtFilter.class);
 
         return http.build();
     }
@@ -81,6 +91,8 @@ public class SecurityConfig {
 
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("Server-Timing", "Retry-After", RateLimitFilter.LIMIT_HEADER,
+            RateLimitFilter.REMAINING_HEADER, RateLimitFilter.RESET_HEADER));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -113,7 +125,7 @@ public class SecurityConfig {
             .map(user -> org.springframework.security.core.userdetails.User
                 .withUsername(user.getEmail())
                 .password(user.getPassword())
-                .authorities(Collections.emptyList())
+                .authorities(opsUsers.authoritiesFor(user.getEmail()))
                 .build())
             .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
     }
@@ -0,0 +1,28 @@
+package com.taskify.config;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.taskify.web.ServerTimingJsonConverter;
+import com.taskify.web.ServerTimingFilter;
+
+/**
+ * Server-Timing wiring: swaps Boot's Jackson converter for one that times serialization.
+ * The header itself is produced by {@link ServerTimingFilter}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskify.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+            ? new ServerTimingJsonConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+            : converter);
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskify.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.taskify.web.capture.TrafficCaptureFilter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Traffic capture wiring: exposes the authenticated user to {@link TrafficCaptureFilter},
+ * which runs outside the security filter chain and cannot read the security context itself.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskify.capture.enabled", havingValue = "true")
+public class TrafficCaptureConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+                    request.setAttribute(TrafficCaptureFilter.PRINCIPAL_ATTRIBUTE, authentication.getName());
+                }
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
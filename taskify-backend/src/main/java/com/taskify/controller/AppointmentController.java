@@ -1,10 +1,15 @@
 package com.taskify.controller;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,23 +18,31 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.taskify.exception.NotFoundException;
 import com.taskify.model.Appointment;
 import com.taskify.model.User;
 import com.taskify.service.AppointmentService;
 import com.taskify.service.UserService;
+import com.taskify.web.IdempotencyStore;
+import com.taskify.web.RequestCoalescer;
+import com.taskify.web.ResponseEncoder;
 
 import io.micrometer.core.instrument.Counter;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -49,6 +62,15 @@ public class AppointmentController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private ResponseEncoder responseEncoder;
+
     @Autowired
     private Counter appointmentCreatedCounter;
 
@@ -58,25 +80,40 @@ public class AppointmentController {
     private User getCurrentUser(Authentication authentication) {
         String email = authentication.getName();
         return userService.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+            .orElseThrow(() -> new NotFoundException("User not found"));
     }
 
     /**
      * Get all appointments for the authenticated user.
+     * Identical concurrent reads by the same user share one query and one serialized body.
+     * Served as JSON, or as CBOR or Smile when Accept asks for them.
      */
     @GetMapping
     @Operation(summary = "Get all appointments", description = "Retrieves all appointments for the authenticated user")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Appointments retrieved successfully"),
+        @ApiResponse(responseCode = "200", description = "Appointments retrieved successfully",
+            content = {
+                @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = AppointmentResponse.class))),
+                @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = AppointmentResponse.class))),
+                @Content(mediaType = ResponseEncoder.APPLICATION_SMILE_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = AppointmentResponse.class)))
+            }),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public ResponseEntity<List<AppointmentResponse>> getAllAppointments(Authentication authentication) {
+    public ResponseEntity<byte[]> getAllAppointments(Authentication authentication, HttpServletRequest request) {
         User user = getCurrentUser(authentication);
-        List<Appointment> appointments = appointmentService.getAllAppointmentsForUser(user);
-        List<AppointmentResponse> response = appointments.stream()
-            .map(AppointmentResponse::fromAppointment)
-            .toList();
-        return ResponseEntity.ok(response);
+        MediaType contentType = responseEncoder.negotiate(request);
+        byte[] body = requestCoalescer.execute("appointments", user.getId(), request.getQueryString(), contentType, () -> {
+            List<Appointment> appointments = appointmentService.getAllAppointmentsForUser(user);
+            return responseEncoder.encode(contentType,
+                generator -> AppointmentResponse.writeArray(generator, appointments));
+        });
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(body);
     }
 
     /**
@@ -90,31 +127,31 @@ public class AppointmentController {
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<?> getAppointmentById(@PathVariable Long id, Authentication authentication) {
-        try {
-            User user = getCurrentUser(authentication);
-            Appointment appointment = appointmentService.getAppointmentById(id, user);
-            return ResponseEntity.ok(AppointmentResponse.fromAppointment(appointment));
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(new ErrorResponse(e.getMessage()));
-        }
+        User user = getCurrentUser(authentication);
+        return appointmentService.findAppointmentById(id, user)
+            .<ResponseEntity<?>>map(appointment -> ResponseEntity.ok(AppointmentResponse.fromAppointment(appointment)))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse("Appointment not found or access denied")));
     }
 
     /**
      * Create a new appointment.
+     * A repeated Idempotency-Key replays the first response instead of creating a duplicate.
      */
     @PostMapping
-    @Operation(summary = "Create a new appointment", description = "Creates a new appointment for the authenticated user")
+    @Operation(summary = "Create a new appointment", description = "Creates a new appointment for the authenticated user. " +
+        "Send an Idempotency-Key header to make retries safe.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Appointment created successfully",
             content = @Content(schema = @Schema(implementation = AppointmentResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public ResponseEntity<?> createAppointment(@Valid @RequestBody AppointmentRequest request, 
+    public ResponseEntity<?> createAppointment(@Valid @RequestBody AppointmentRequest request,
+                                                @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
                                                 Authentication authentication) {
-        try {
-            User user = getCurrentUser(authentication);
+        User user = getCurrentUser(authentication);
+        return idempotencyStore.execute(user.getId(), idempotencyKey, request.fingerprint(), () -> {
             Appointment appointment = appointmentService.createAppointment(
                 request.getSubject(),
                 request.getDate(),
@@ -123,10 +160,7 @@ public class AppointmentController {
             appointmentCreatedCounter.increment();
             return ResponseEntity.status(HttpStatus.CREATED)
                 .body(AppointmentResponse.fromAppointment(appointment));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                .body(new ErrorResponse(e.getMessage()));
-        }
+        });
     }
 
     /**
@@ -143,19 +177,14 @@ public class AppointmentController {
     public ResponseEntity<?> updateAppointment(@PathVariable Long id,
                                                 @Valid @RequestBody AppointmentRequest request,
                                                 Authentication authentication) {
-        try {
-            User user = getCurrentUser(authentication);
-            Appointment appointment = appointmentService.updateAppointment(
-                id,
-                request.getSubject(),
-                request.getDate(),
-                user
-            );
-            return ResponseEntity.ok(AppointmentResponse.fromAppointment(appointment));
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(new ErrorResponse(e.getMessage()));
-        }
+        User user = getCurrentUser(authentication);
+        Appointment appointment = appointmentService.updateAppointment(
+            id,
+            request.getSubject(),
+            request.getDate(),
+            user
+        );
+        return ResponseEntity.ok(AppointmentResponse.fromAppointment(appointment));
     }
 
     /**
@@ -169,14 +198,9 @@ public class AppointmentController {
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<?> deleteAppointment(@PathVariable Long id, Authentication authentication) {
-        try {
-            User user = getCurrentUser(authentication);
-            appointmentService.deleteAppointment(id, user);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(new ErrorResponse(e.getMessage()));
-        }
+        User user = getCurrentUser(authentication);
+        appointmentService.deleteAppointment(id, user);
+        return ResponseEntity.noContent().build();
     }
 
     // ==================== DTOs ====================================
@@ -192,9 +216,14 @@ public class AppointmentController {
         public void setSubject(String subject) { this.subject = subject; }
         public LocalDateTime getDate() { return date; }
         public void setDate(LocalDateTime date) { this.date = date; }
+
+        List<Object> fingerprint() { return Arrays.asList(subject, date); }
     }
 
     public static class AppointmentResponse {
+        // What Jackson's LocalDateTimeSerializer writes with timestamps disabled; one shared instance
+        private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
         private Long id;
         private String subject;
         private LocalDateTime date;
@@ -207,6 +236,24 @@ public class AppointmentController {
             return response;
         }
 
+        /**
+         * Write appointments as the array of {@link #fromAppointment} responses would serialize to,
+         * without the copies. Fields in declaration order, nulls included, dates as ISO-8601 strings.
+         */
+        public static void writeArray(JsonGenerator generator, List<Appointment> appointments) throws IOException {
+            generator.writeStartArray(appointments, appointments.size());
+            for (Appointment appointment : appointments) {
+                generator.writeStartObject();
+                generator.writeFieldName("id");
+                generator.writeNumber(appointment.getId());
+                generator.writeStringField("subject", appointment.getSubject());
+                LocalDateTime date = appointment.getDate();
+                generator.writeStringField("date", date != null ? DATE_FORMAT.format(date) : null);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+
         public Long getId() { return id; }
         public void setId(Long id) { this.id = id; }
         public String getSubject() { return subject; }
@@ -214,15 +261,4 @@ public class AppointmentController {
         public LocalDateTime getDate() { return date; }
         public void setDate(LocalDateTime date) { this.date = date; }
     }
-
-    public static class ErrorResponse {
-        private String error;
-
-        public ErrorResponse(String error) {
-            this.error = error;
-        }
-
-        public String getError() { return error; }
-        public void setError(String error) { this.error = error; }
-    }
 }
@@ -158,17 +158,6 @@ public class AuthController {
         public void setMessage(String message) { this.message = message; }
     }
 
-    public static class ErrorResponse {
-        private String error;
-
-        public ErrorResponse(String error) {
-            this.error = error;
-        }
-
-        public String getError() { return error; }
-        public void setError(String error) { this.error = error; }
-    }
-
     public static class LogoutResponse {
         private String message;
         private String instruction;
@@ -0,0 +1,350 @@
+package com.taskify.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.controller.AppointmentController.AppointmentRequest;
+import com.taskify.controller.AppointmentController.AppointmentResponse;
+import com.taskify.controller.TaskController.TaskRequest;
+import com.taskify.controller.TaskController.TaskResponse;
+import com.taskify.exception.InvalidRequestException;
+import com.taskify.exception.NotFoundException;
+import com.taskify.model.Appointment;
+import com.taskify.model.Task;
+import com.taskify.model.TaskStatus;
+import com.taskify.model.User;
+import com.taskify.service.AppointmentService;
+import com.taskify.service.BatchService;
+import com.taskify.service.BatchService.BatchOutcome;
+import com.taskify.service.BatchService.OperationOutcome;
+import com.taskify.service.TaskService;
+import com.taskify.service.UserService;
+
+import io.micrometer.core.instrument.Counter;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Batch controller running several task and appointment operations in one request and transaction.
+ */
+@RestController
+@RequestMapping("/api/batch")
+@Tag(name = "Batch", description = "Multiple task and appointment operations in one request")
+@SecurityRequirement(name = "bearerAuth")
+public class BatchController {
+
+    @Autowired
+    private BatchService batchService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private Counter taskCreatedCounter;
+
+    @Autowired
+    private Counter taskCompletedCounter;
+
+    @Autowired
+    private Counter appointmentCreatedCounter;
+
+    @Value("${taskify.batch.max-operations:100}")
+    private int maxOperations;
+
+    /**
+     * Get current authenticated user from security context.
+     */
+    private User getCurrentUser(Authentication authentication) {
+        String email = authentication.getName();
+        return userService.findByEmail(email)
+            .orElseThrow(() -> new NotFoundException("User not found"));
+    }
+
+    /**
+     * Execute an ordered list of operations.
+     */
+    @PostMapping
+    @Operation(summary = "Execute a batch of operations",
+        description = "Runs creates, updates and deletes of tasks and appointments in order, in one transaction. " +
+            "With atomic=true (default) any failure rolls back the whole batch; with atomic=false failed " +
+            "operations are reported and the others are committed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-operation results",
+            content = @Content(schema = @Schema(implementation = BatchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid batch"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<?> executeBatch(@Valid @RequestBody BatchRequest request, Authentication authentication) {
+        if (request.getOperations().size() > maxOperations) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("A batch may contain at most " + maxOperations + " operations"));
+        }
+
+        User user = getCurrentUser(authentication);
+
+        List<Supplier<Object>> operations = new ArrayList<>(request.getOperations().size());
+        for (BatchOperation operation : request.getOperations()) {
+            operations.add(toSupplier(operation, user));
+        }
+
+        BatchOutcome outcome = batchService.execute(operations, request.isAtomic());
+
+        List<OperationResult> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = request.getOperations().get(i);
+            OperationOutcome result = outcome.outcomes().get(i);
+            results.add(toResult(i, operation, result));
+            if (result.isSuccess()) {
+                countSuccess(operation, result.value());
+            }
+        }
+        return ResponseEntity.ok(new BatchResponse(outcome.committed(), results));
+    }
+
+    private Supplier<Object> toSupplier(BatchOperation operation, User user) {
+        try {
+            return switch (operation.getResource()) {
+                case TASK -> taskOperation(operation, user);
+                case APPOINTMENT -> appointmentOperation(operation, user);
+            };
+        } catch (InvalidRequestException e) {
+            return () -> {
+                throw e;
+            };
+        }
+    }
+
+    private Supplier<Object> taskOperation(BatchOperation operation, User user) {
+        Long id = operation.getId();
+        return switch (operation.getAction()) {
+            case CREATE -> {
+                TaskRequest body = readBody(operation, TaskRequest.class);
+                yield () -> taskService.createTask(body.getTitle(), body.getDescription(), body.getStatus(), user);
+            }
+            case UPDATE -> {
+                requireId(operation);
+                TaskRequest body = readBody(operation, TaskRequest.class);
+                yield () -> taskService.updateTask(id, body.getTitle(), body.getDescription(), body.getStatus(), user);
+            }
+            case DELETE -> {
+                requireId(operation);
+                yield () -> {
+                    taskService.deleteTask(id, user);
+                    return null;
+                };
+            }
+        };
+    }
+
+    private Supplier<Object> appointmentOperation(BatchOperation operation, User user) {
+        Long id = operation.getId();
+        return switch (operation.getAction()) {
+            case CREATE -> {
+                AppointmentRequest body = readBody(operation, AppointmentRequest.class);
+                yield () -> appointmentService.createAppointment(body.getSubject(), body.getDate(), user);
+            }
+            case UPDATE -> {
+                requireId(operation);
+                AppointmentRequest body = readBody(operation, AppointmentRequest.class);
+                yield () -> appointmentService.updateAppointment(id, body.getSubject(), body.getDate(), user);
+            }
+            case DELETE -> {
+                requireId(operation);
+                yield () -> {
+                    appointmentService.deleteAppointment(id, user);
+                    return null;
+                };
+            }
+        };
+    }
+
+    private void requireId(BatchOperation operation) {
+        if (operation.getId() == null) {
+            throw new InvalidRequestException("id is required for " + operation.getAction());
+        }
+    }
+
+    private <T> T readBody(BatchOperation operation, Class<T> type) {
+        if (operation.getBody() == null || operation.getBody().isNull()) {
+            throw new InvalidRequestException("body is required for " + operation.getAction());
+        }
+        T body;
+        try {
+            body = objectMapper.treeToValue(operation.getBody(), type);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Malformed body: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(body);
+        if (!violations.isEmpty()) {
+            throw new InvalidRequestException(violations.iterator().next().getMessage());
+        }
+        return body;
+    }
+
+    private OperationResult toResult(int index, BatchOperation operation, OperationOutcome outcome) {
+        if (outcome.rolledBack()) {
+            return new OperationResult(index, HttpStatus.FAILED_DEPENDENCY.value(), null,
+                "Not applied: the batch was rolled back");
+        }
+        if (outcome.error() != null) {
+            // Same status mapping as ApiExceptionHandler
+            HttpStatus status = outcome.error() instanceof NotFoundException
+                ? HttpStatus.NOT_FOUND
+                : HttpStatus.BAD_REQUEST;
+            return new OperationResult(index, status.value(), null, outcome.error().getMessage());
+        }
+        return switch (operation.getAction()) {
+            case CREATE -> new OperationResult(index, HttpStatus.CREATED.value(), toResponse(outcome.value()), null);
+            case UPDATE -> new OperationResult(index, HttpStatus.OK.value(), toResponse(outcome.value()), null);
+            case DELETE -> new OperationResult(index, HttpStatus.NO_CONTENT.value(), null, null);
+        };
+    }
+
+    private Object toResponse(Object value) {
+        if (value instanceof Task task) {
+            return TaskResponse.fromTask(task);
+        }
+        if (value instanceof Appointment appointment) {
+            return AppointmentResponse.fromAppointment(appointment);
+        }
+        return null;
+    }
+
+    private void countSuccess(BatchOperation operation, Object value) {
+        if (operation.getAction() == Action.CREATE) {
+            if (operation.getResource() == Resource.TASK) {
+                taskCreatedCounter.increment();
+            } else {
+                appointmentCreatedCounter.increment();
+            }
+        } else if (operation.getAction() == Action.UPDATE
+                && value instanceof Task task && task.getStatus() == TaskStatus.DONE) {
+            taskCompletedCounter.increment();
+        }
+    }
+
+    // ==================== DTOs ====================
+
+    public enum Resource {
+        TASK,
+        APPOINTMENT
+    }
+
+    public enum Action {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    public static class BatchRequest {
+        private boolean atomic = true;
+
+        @NotEmpty(message = "At least one operation is required")
+        private List<@Valid @NotNull BatchOperation> operations;
+
+        public boolean isAtomic() { return atomic; }
+        public void setAtomic(boolean atomic) { this.atomic = atomic; }
+        public List<BatchOperation> getOperations() { return operations; }
+        public void setOperations(List<BatchOperation> operations) { this.operations = operations; }
+    }
+
+    public static class BatchOperation {
+        @NotNull(message = "Resource is required")
+        private Resource resource;
+
+        @NotNull(message = "Action is required")
+        private Action action;
+
+        private Long id;
+
+        @Schema(description = "Request body, as for the single-resource endpoint")
+        private JsonNode body;
+
+        public Resource getResource() { return resource; }
+        public void setResource(Resource resource) { this.resource = resource; }
+        public Action getAction() { return action; }
+        public void setAction(Action action) { this.action = action; }
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        public JsonNode getBody() { return body; }
+        public void setBody(JsonNode body) { this.body = body; }
+    }
+
+    public static class BatchResponse {
+        private boolean committed;
+        private List<OperationResult> results;
+
+        public BatchResponse(boolean committed, List<OperationResult> results) {
+            this.committed = committed;
+            this.results = results;
+        }
+
+        public boolean isCommitted() { return committed; }
+        public void setCommitted(boolean committed) { this.committed = committed; }
+        public List<OperationResult> getResults() { return results; }
+        public void setResults(List<OperationResult> results) { this.results = results; }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class OperationResult {
+        private int index;
+        private int status;
+        private Object body;
+        private String error;
+
+        public OperationResult(int index, int status, Object body, String error) {
+            this.index = index;
+            this.status = status;
+            this.body = body;
+            this.error = error;
+        }
+
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+        public int getStatus() { return status; }
+        public void setStatus(int status) { this.status = status; }
+        public Object getBody() { return body; }
+        public void setBody(Object body) { this.body = body; }
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskify.controller;
+
+/**
+ * Error body shared by all endpoints.
+ */
+public class ErrorResponse {
+    private String error;
+
+    public ErrorResponse(String error) {
+        this.error = error;
+    }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -1,9 +1,14 @@
 package com.taskify.controller;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,26 +17,37 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.taskify.exception.NotFoundException;
 import com.taskify.model.Task;
 import com.taskify.model.TaskStatus;
 import com.taskify.model.User;
 import com.taskify.service.TaskService;
+import com.taskify.service.TaskWriteBehindService;
+import com.taskify.service.TaskWriteBehindService.PendingTask;
 import com.taskify.service.UserService;
+import com.taskify.web.IdempotencyStore;
+import com.taskify.web.RequestCoalescer;
+import com.taskify.web.ResponseEncoder;
 
 import io.micrometer.core.instrument.Counter;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 /**
  * Task management controller for CRUD operations.
@@ -48,6 +64,18 @@ public class TaskController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private TaskWriteBehindService taskWriteBehindService;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private ResponseEncoder responseEncoder;
+
     @Autowired
     private Counter taskCreatedCounter;
 
@@ -60,25 +88,39 @@ public class TaskController {
     private User getCurrentUser(Authentication authentication) {
         String email = authentication.getName();
         return userService.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+            .orElseThrow(() -> new NotFoundException("User not found"));
     }
 
     /**
      * Get all tasks for the authenticated user.
+     * Identical concurrent reads by the same user share one query and one serialized body.
+     * Served as JSON, or as CBOR or Smile when Accept asks for them.
      */
     @GetMapping
     @Operation(summary = "Get all tasks", description = "Retrieves all tasks for the authenticated user")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+        @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully",
+            content = {
+                @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))),
+                @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))),
+                @Content(mediaType = ResponseEncoder.APPLICATION_SMILE_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class)))
+            }),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public ResponseEntity<List<TaskResponse>> getAllTasks(Authentication authentication) {
+    public ResponseEntity<byte[]> getAllTasks(Authentication authentication, HttpServletRequest request) {
         User user = getCurrentUser(authentication);
-        List<Task> tasks = taskService.getAllTasksForUser(user);
-        List<TaskResponse> response = tasks.stream()
-            .map(TaskResponse::fromTask)
-            .toList();
-        return ResponseEntity.ok(response);
+        MediaType contentType = responseEncoder.negotiate(request);
+        byte[] body = requestCoalescer.execute("tasks", user.getId(), request.getQueryString(), contentType, () -> {
+            List<Task> tasks = taskService.getAllTasksForUser(user);
+            return responseEncoder.encode(contentType, generator -> TaskResponse.writeArray(generator, tasks));
+        });
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(body);
     }
 
     /**
@@ -92,30 +134,42 @@ public class TaskController {
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<?> getTaskById(@PathVariable Long id, Authentication authentication) {
-        try {
-            User user = getCurrentUser(authentication);
-            Task task = taskService.getTaskById(id, user);
-            return ResponseEntity.ok(TaskResponse.fromTask(task));
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(new ErrorResponse(e.getMessage()));
-        }
+        User user = getCurrentUser(authentication);
+        return taskService.findTaskById(id, user)
+            .<ResponseEntity<?>>map(task -> ResponseEntity.ok(TaskResponse.fromTask(task)))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse("Task not found or access denied")));
     }
 
     /**
      * Create a new task.
+     * A repeated Idempotency-Key replays the first response instead of creating a duplicate.
+     * With "Prefer: respond-async" and write-behind enabled, the task is acknowledged with 202
+     * and persisted shortly after.
      */
     @PostMapping
-    @Operation(summary = "Create a new task", description = "Creates a new task for the authenticated user")
+    @Operation(summary = "Create a new task", description = "Creates a new task for the authenticated user. " +
+        "Send an Idempotency-Key header to make retries safe. Send Prefer: respond-async to have the task " +
+        "accepted immediately and persisted in the background, when the server allows it.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Task created successfully",
             content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+        @ApiResponse(responseCode = "202", description = "Task accepted for asynchronous creation",
+            content = @Content(schema = @Schema(implementation = TaskResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input"),
-        @ApiResponse(responseCode = "401", description = "Unauthorized")
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "503", description = "Asynchronous queue full, retry later")
     })
-    public ResponseEntity<?> createTask(@Valid @RequestBody TaskRequest request, Authentication authentication) {
-        try {
-            User user = getCurrentUser(authentication);
+    public ResponseEntity<?> createTask(@Valid @RequestBody TaskRequest request,
+                                        @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                        @RequestHeader(value = "Prefer", required = false) String prefer,
+                                        Authentication authentication) {
+        User user = getCurrentUser(authentication);
+        if (isRespondAsync(prefer) && taskWriteBehindService.isEnabled()) {
+            return idempotencyStore.execute(user.getId(), idempotencyKey, request.fingerprint(),
+                () -> acceptTask(request, user));
+        }
+        return idempotencyStore.execute(user.getId(), idempotencyKey, request.fingerprint(), () -> {
             Task task = taskService.createTask(
                 request.getTitle(),
                 request.getDescription(),
@@ -125,10 +179,33 @@ public class TaskController {
             taskCreatedCounter.increment();
             return ResponseEntity.status(HttpStatus.CREATED)
                 .body(TaskResponse.fromTask(task));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                .body(new ErrorResponse(e.getMessage()));
+        });
+    }
+
+    private ResponseEntity<?> acceptTask(TaskRequest request, User user) {
+        PendingTask task = taskWriteBehindService.accept(
+            request.getTitle(),
+            request.getDescription(),
+            request.getStatus(),
+            user
+        );
+        taskCreatedCounter.increment();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .header(HttpHeaders.LOCATION, "/api/tasks/" + task.id())
+            .header("Preference-Applied", "respond-async")
+            .body(TaskResponse.fromPendingTask(task));
+    }
+
+    private static boolean isRespondAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (preference.trim().toLowerCase(Locale.ROOT).startsWith("respond-async")) {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
@@ -145,24 +222,19 @@ public class TaskController {
     public ResponseEntity<?> updateTask(@PathVariable Long id,
                                         @Valid @RequestBody TaskRequest request,
                                         Authentication authentication) {
-        try {
-            User user = getCurrentUser(authentication);
-            Task task = taskService.updateTask(
-                id,
-                request.getTitle(),
-                request.getDescription(),
-                request.getStatus(),
-                user
-            );
-            // Track task completion
-            if (task.getStatus() == TaskStatus.DONE) {
-                taskCompletedCounter.increment();
-            }
-            return ResponseEntity.ok(TaskResponse.fromTask(task));
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(new ErrorResponse(e.getMessage()));
+        User user = getCurrentUser(authentication);
+        Task task = taskService.updateTask(
+            id,
+            request.getTitle(),
+            request.getDescription(),
+            request.getStatus(),
+            user
+        );
+        // Track task completion
+        if (task.getStatus() == TaskStatus.DONE) {
+            taskCompletedCounter.increment();
         }
+        return ResponseEntity.ok(TaskResponse.fromTask(task));
     }
 
     /**
@@ -176,22 +248,19 @@ public class TaskController {
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<?> deleteTask(@PathVariable Long id, Authentication authentication) {
-        try {
-            User user = getCurrentUser(authentication);
-            taskService.deleteTask(id, user);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(new ErrorResponse(e.getMessage()));
-        }
+        User user = getCurrentUser(authentication);
+        taskService.deleteTask(id, user);
+        return ResponseEntity.noContent().build();
     }
 
     // ==================== DTOs ====================
 
     public static class TaskRequest {
         @NotBlank(message = "Title is required")
+        @Size(max = Task.TITLE_MAX_LENGTH, message = "Title must be at most 255 characters")
         private String title;
-        
+
+        @Size(max = Task.DESCRIPTION_MAX_LENGTH, message = "Description must be at most 500 characters")
         private String description;
         
         private TaskStatus status;
@@ -202,6 +271,8 @@ public class TaskController {
         public void setDescription(String description) { this.description = description; }
         public TaskStatus getStatus() { return status; }
         public void setStatus(TaskStatus status) { this.status = status; }
+
+        List<Object> fingerprint() { return Arrays.asList(title, description, status); }
     }
 
     public static class TaskResponse {
@@ -219,6 +290,33 @@ public class TaskController {
             return response;
         }
 
+        /**
+         * Write tasks as the array of {@link #fromTask} responses would serialize to, without the copies.
+         * Fields in declaration order, nulls included, like Jackson's bean serialization of this class.
+         */
+        public static void writeArray(JsonGenerator generator, List<Task> tasks) throws IOException {
+            generator.writeStartArray(tasks, tasks.size());
+            for (Task task : tasks) {
+                generator.writeStartObject();
+                generator.writeFieldName("id");
+                generator.writeNumber(task.getId());
+                generator.writeStringField("title", task.getTitle());
+                generator.writeStringField("description", task.getDescription());
+                generator.writeStringField("status", task.getStatus() != null ? task.getStatus().name() : null);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+
+        public static TaskResponse fromPendingTask(PendingTask task) {
+            TaskResponse response = new TaskResponse();
+            response.setId(task.id());
+            response.setTitle(task.title());
+            response.setDescription(task.description());
+            response.setStatus(task.status());
+            return response;
+        }
+
         public Long getId() { return id; }
         public void setId(Long id) { this.id = id; }
         public String getTitle() { return title; }
@@ -228,15 +326,4 @@ public class TaskController {
         public TaskStatus getStatus() { return status; }
         public void setStatus(TaskStatus status) { this.status = status; }
     }
-
-    public static class ErrorResponse {
-        private String error;
-
-        public ErrorResponse(String error) {
-            this.error = error;
-        }
-
-        public String getError() { return error; }
-        public void setError(String error) { this.error = error; }
-    }
 }
@@ -0,0 +1,12 @@
+package com.taskify.exception;
+
+/**
+ * Raised when a request is well-formed but cannot be applied as sent.
+ * Stackless, like {@link NotFoundException}.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskify.exception;
+
+/**
+ * Raised when a resource does not exist or is not owned by the current user.
+ * Stackless: it is an expected outcome on hot paths, so no stack trace is captured.
+ */
+public class NotFoundException extends RuntimeException {
+
+    public NotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,206 @@
+package com.taskify.graphql;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.taskify.model.TaskStatus;
+
+/**
+ * SQL behind the GraphQL API. Lists and single reads select only the columns of the fields a query
+ * asked for; the batch reads answer one nested field for many parents in a single statement.
+ * Every read is scoped to the authenticated user.
+ */
+@Repository
+class GraphQlQueries {
+
+    // What Jackson writes for LocalDateTime in the REST API; one shared instance
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    // Selectable GraphQL field -> column; the id is always read
+    private static final Map<String, String> TASK_COLUMNS = columns(
+        "title", "title", "description", "description", "status", "status", "owner", "user_id");
+    private static final Map<String, String> APPOINTMENT_COLUMNS = columns(
+        "subject", "subject", "date", "date", "owner", "user_id");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    GraphQlQueries(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    record UserView(long id, String email) {
+    }
+
+    /**
+     * Task fields, null when not selected.
+     * @param userId read only when the owner is selected
+     */
+    record TaskView(long id, String title, String description, TaskStatus status, Long userId) {
+    }
+
+    /**
+     * Appointment fields, null when not selected.
+     * @param date ISO-8601 local date-time
+     * @param userId read only when the owner is selected
+     */
+    record AppointmentView(long id, String subject, String date, Long userId) {
+    }
+
+    record TaskCounts(int todo, int done) {
+
+        static final TaskCounts NONE = new TaskCounts(0, 0);
+
+        public int total() {
+            return todo + done;
+        }
+    }
+
+    List<UserView> users(Collection<Long> ids) {
+        return jdbcTemplate.query("SELECT id, email FROM users WHERE id IN (:ids)",
+            new MapSqlParameterSource("ids", ids),
+            (rs, rowNum) -> new UserView(rs.getLong("id"), rs.getString("email")));
+    }
+
+    /**
+     * A page of the user's tasks in ID order.
+     * @param fields selected GraphQL fields of Task
+     */
+    List<TaskView> tasks(long userId, TaskStatus status, Long afterId, int limit, Set<String> fields) {
+        List<String> columns = select(TASK_COLUMNS, fields);
+        MapSqlParameterSource parameters = new MapSqlParameterSource("userId", userId).addValue("limit", limit);
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", columns))
+            .append(" FROM tasks WHERE user_id = :userId");
+        if (status != null) {
+            sql.append(" AND status = :status");
+            parameters.addValue("status", status.name());
+        }
+        if (afterId != null) {
+            sql.append(" AND id > :afterId");
+            parameters.addValue("afterId", afterId);
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+        return jdbcTemplate.query(sql.toString(), parameters, taskMapper(columns));
+    }
+
+    Optional<TaskView> task(long userId, long id, Set<String> fields) {
+        List<String> columns = select(TASK_COLUMNS, fields);
+        return jdbcTemplate.query(
+            "SELECT " + String.join(", ", columns) + " FROM tasks WHERE id = :id AND user_id = :userId",
+            new MapSqlParameterSource("id", id).addValue("userId", userId),
+            taskMapper(columns)).stream().findFirst();
+    }
+
+    /**
+     * A page of the user's appointments in ID order.
+     * @param fields selected GraphQL fields of Appointment
+     */
+    List<AppointmentView> appointments(long userId, Long afterId, int limit, Set<String> fields) {
+        List<String> columns = select(APPOINTMENT_COLUMNS, fields);
+        MapSqlParameterSource parameters = new MapSqlParameterSource("userId", userId).addValue("limit", limit);
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", columns))
+            .append(" FROM appointments WHERE user_id = :userId");
+        if (afterId != null) {
+            sql.append(" AND id > :afterId");
+            parameters.addValue("afterId", afterId);
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+        return jdbcTemplate.query(sql.toString(), parameters, appointmentMapper(columns));
+    }
+
+    Optional<AppointmentView> appointment(long userId, long id, Set<String> fields) {
+        List<String> columns = select(APPOINTMENT_COLUMNS, fields);
+        return jdbcTemplate.query(
+            "SELECT " + String.join(", ", columns) + " FROM appointments WHERE id = :id AND user_id = :userId",
+            new MapSqlParameterSource("id", id).addValue("userId", userId),
+            appointmentMapper(columns)).stream().findFirst();
+    }
+
+    /**
+     * Task counts per status of each user, in one grouped statement.
+     * @return counts by user ID; users without tasks are missing
+     */
+    Map<Long, TaskCounts> taskCounts(Collection<Long> userIds) {
+        Map<Long, TaskCounts> counts = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT user_id, status, COUNT(*) AS tasks FROM tasks WHERE user_id IN (:userIds) GROUP BY user_id, status",
+            new MapSqlParameterSource("userIds", userIds),
+            rs -> {
+                int tasks = rs.getInt("tasks");
+                boolean done = TaskStatus.DONE.name().equals(rs.getString("status"));
+                counts.merge(rs.getLong("user_id"), done ? new TaskCounts(0, tasks) : new TaskCounts(tasks, 0),
+                    (a, b) -> new TaskCounts(a.todo() + b.todo(), a.done() + b.done()));
+            });
+        return counts;
+    }
+
+    /**
+     * Appointment count of each user, in one grouped statement.
+     * @return counts by user ID; users without appointments are missing
+     */
+    Map<Long, Integer> appointmentCounts(Collection<Long> userIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT user_id, COUNT(*) AS appointments FROM appointments WHERE user_id IN (:userIds) GROUP BY user_id",
+            new MapSqlParameterSource("userIds", userIds),
+            rs -> {
+                counts.put(rs.getLong("user_id"), rs.getInt("appointments"));
+            });
+        return counts;
+    }
+
+    private static List<String> select(Map<String, String> selectable, Set<String> fields) {
+        List<String> columns = new ArrayList<>(selectable.size() + 1);
+        columns.add("id");
+        selectable.forEach((field, column) -> {
+            if (fields.contains(field)) {
+                columns.add(column);
+            }
+        });
+        return columns;
+    }
+
+    private static RowMapper<TaskView> taskMapper(List<String> columns) {
+        boolean title = columns.contains("title");
+        boolean description = columns.contains("description");
+        boolean status = columns.contains("status");
+        boolean owner = columns.contains("user_id");
+        return (rs, rowNum) -> new TaskView(
+            rs.getLong("id"),
+            title ? rs.getString("title") : null,
+            description ? rs.getString("description") : null,
+            status ? TaskStatus.valueOf(rs.getString("status")) : null,
+            owner ? rs.getLong("user_id") : null);
+    }
+
+    private static RowMapper<AppointmentView> appointmentMapper(List<String> columns) {
+        boolean subject = columns.contains("subject");
+        boolean date = columns.contains("date");
+        boolean owner = columns.contains("user_id");
+        return (rs, rowNum) -> new AppointmentView(
+            rs.getLong("id"),
+            subject ? rs.getString("subject") : null,
+            date ? DATE_FORMAT.format(rs.getObject("date", LocalDateTime.class)) : null,
+            owner ? rs.getLong("user_id") : null);
+    }
+
+    private static Map<String, String> columns(String... fieldsAndColumns) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        for (int i = 0; i < fieldsAndColumns.length; i += 2) {
+            columns.put(fieldsAndColumns[i], fieldsAndColumns[i + 1]);
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskify.graphql;
+
+import java.util.Map;
+
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+
+import com.taskify.security.JwtFilter;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands the user {@link JwtFilter} authenticated to the resolvers, through the GraphQL context
+ * under {@link #USER_ID}. The servlet request attributes are not visible to data fetchers.
+ */
+@Component
+class GraphQlUserInterceptor implements WebGraphQlInterceptor {
+
+    static final String USER_ID = "taskify.userId";
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        Object userId = request.getAttributes().get(JwtFilter.USER_ID_ATTRIBUTE);
+        if (userId != null) {
+            request.configureExecutionInput((input, builder) -> builder.graphQLContext(Map.of(USER_ID, userId)).build());
+        }
+        return chain.next(request);
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskify.graphql;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.ContextValue;
+import org.springframework.graphql.data.method.annotation.GraphQlExceptionHandler;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Controller;
+
+import com.taskify.exception.InvalidRequestException;
+import com.taskify.exception.NotFoundException;
+import com.taskify.graphql.GraphQlQueries.AppointmentView;
+import com.taskify.graphql.GraphQlQueries.TaskCounts;
+import com.taskify.graphql.GraphQlQueries.TaskView;
+import com.taskify.graphql.GraphQlQueries.UserView;
+import com.taskify.model.TaskStatus;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+
+/**
+ * Resolvers of the GraphQL schema. Top-level fields read only the selected columns; nested fields are
+ * {@link BatchMapping}s, so a query costs one statement per field level however many parents it
+ * returns, never one per parent.
+ */
+@Controller
+class TaskifyGraphQlController {
+
+    private final GraphQlQueries queries;
+    private final int maxPageSize;
+
+    TaskifyGraphQlController(GraphQlQueries queries,
+                             @Value("${taskify.graphql.max-page-size:1000}") int maxPageSize) {
+        this.queries = queries;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @QueryMapping
+    public UserView me(@ContextValue(GraphQlUserInterceptor.USER_ID) Long userId) {
+        return queries.users(List.of(userId)).stream().findFirst()
+            .orElseThrow(() -> new NotFoundException("User not found"));
+    }
+
+    @QueryMapping
+    public List<TaskView> tasks(@ContextValue(GraphQlUserInterceptor.USER_ID) Long userId,
+                                @Argument TaskStatus status, @Argument int first, @Argument Long after,
+                                DataFetchingFieldSelectionSet selection) {
+        return queries.tasks(userId, status, after, pageSize(first), fields(selection));
+    }
+
+    @QueryMapping
+    public TaskView task(@ContextValue(GraphQlUserInterceptor.USER_ID) Long userId, @Argument Long id,
+                         DataFetchingFieldSelectionSet selection) {
+        return queries.task(userId, id, fields(selection)).orElse(null);
+    }
+
+    @QueryMapping
+    public List<AppointmentView> appointments(@ContextValue(GraphQlUserInterceptor.USER_ID) Long userId,
+                                              @Argument int first, @Argument Long after,
+                                              DataFetchingFieldSelectionSet selection) {
+        return queries.appointments(userId, after, pageSize(first), fields(selection));
+    }
+
+    @QueryMapping
+    public AppointmentView appointment(@ContextValue(GraphQlUserInterceptor.USER_ID) Long userId,
+                                       @Argument Long id, DataFetchingFieldSelectionSet selection) {
+        return queries.appointment(userId, id, fields(selection)).orElse(null);
+    }
+
+    @BatchMapping(typeName = "Task", field = "owner")
+    public Map<TaskView, UserView> taskOwners(List<TaskView> tasks) {
+        Map<Long, UserView> users = usersById(tasks.stream().map(TaskView::userId).collect(Collectors.toSet()));
+        return tasks.stream().collect(Collectors.toMap(Function.identity(), task -> users.get(task.userId()),
+            (a, b) -> a));
+    }
+
+    @BatchMapping(typeName = "Appointment", field = "owner")
+    public Map<AppointmentView, UserView> appointmentOwners(List<AppointmentView> appointments) {
+        Map<Long, UserView> users = usersById(
+            appointments.stream().map(AppointmentView::userId).collect(Collectors.toSet()));
+        return appointments.stream().collect(Collectors.toMap(Function.identity(),
+            appointment -> users.get(appointment.userId()), (a, b) -> a));
+    }
+
+    @BatchMapping(typeName = "User", field = "taskCounts")
+    public Map<UserView, TaskCounts> taskCounts(List<UserView> users) {
+        Map<Long, TaskCounts> counts = queries.taskCounts(ids(users));
+        return users.stream().collect(Collectors.toMap(Function.identity(),
+            user -> counts.getOrDefault(user.id(), TaskCounts.NONE), (a, b) -> a));
+    }
+
+    @BatchMapping(typeName = "User", field = "appointmentCount")
+    public Map<UserView, Integer> appointmentCount(List<UserView> users) {
+        Map<Long, Integer> counts = queries.appointmentCounts(ids(users));
+        return users.stream().collect(Collectors.toMap(Function.identity(),
+            user -> counts.getOrDefault(user.id(), 0), (a, b) -> a));
+    }
+
+    @GraphQlExceptionHandler
+    public GraphQLError handleInvalidRequest(InvalidRequestException e, DataFetchingEnvironment environment) {
+        return GraphqlErrorBuilder.newError(environment)
+            .errorType(ErrorType.BAD_REQUEST)
+            .message(e.getMessage())
+            .build();
+    }
+
+    @GraphQlExceptionHandler
+    public GraphQLError handleNotFound(NotFoundException e, DataFetchingEnvironment environment) {
+        return GraphqlErrorBuilder.newError(environment)
+            .errorType(ErrorType.NOT_FOUND)
+            .message(e.getMessage())
+            .build();
+    }
+
+    private int pageSize(int first) {
+        if (first < 1 || first > maxPageSize) {
+            throw new InvalidRequestException("first must be between 1 and " + maxPageSize);
+        }
+        return first;
+    }
+
+    private Map<Long, UserView> usersById(Set<Long> ids) {
+        return queries.users(ids).stream().collect(Collectors.toMap(UserView::id, Function.identity()));
+    }
+
+    private static Set<Long> ids(Collection<UserView> users) {
+        return users.stream().map(UserView::id).collect(Collectors.toSet());
+    }
+
+    private static Set<String> fields(DataFetchingFieldSelectionSet selection) {
+        Set<String> fields = new LinkedHashSet<>();
+        for (SelectedField field : selection.getImmediateFields()) {
+            fields.add(field.getName());
+        }
+        return fields;
+    }
+}
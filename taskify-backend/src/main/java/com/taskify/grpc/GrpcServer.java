@@ -0,0 +1,96 @@
+package com.taskify.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.taskify.security.JwtAuthenticator;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.grpc.MetricCollectingServerInterceptor;
+
+/**
+ * gRPC endpoint for internal services: {@link TaskifyGrpcService} on its own Netty server and port,
+ * authenticated with the same JWTs as the REST API. Calls are timed as grpc.server.* metrics.
+ * Like the reactive read API it runs next to the servlet stack, so the servlet filters (rate and
+ * concurrency limits, REST metrics) do not apply to it.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcServer.class);
+
+    private final int port;
+    private final TaskifyGrpcService service;
+    private final JwtAuthenticator jwtAuthenticator;
+    private final MeterRegistry meterRegistry;
+
+    private Server server;
+
+    public GrpcServer(@Value("${taskify.grpc.port:9090}") int port,
+                      TaskifyGrpcService service,
+                      JwtAuthenticator jwtAuthenticator,
+                      MeterRegistry meterRegistry) {
+        this.port = port;
+        this.service = service;
+        this.jwtAuthenticator = jwtAuthenticator;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        // The last interceptor runs first: calls are timed even when authentication rejects them
+        server = NettyServerBuilder.forPort(port)
+            .addService(ServerInterceptors.intercept(service,
+                new JwtServerInterceptor(jwtAuthenticator),
+                new MetricCollectingServerInterceptor(meterRegistry)))
+            .build();
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start the gRPC server on port " + port, e);
+        }
+        log.info("gRPC API listening on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        // WatchTasks streams never end on their own, so they are cancelled after a grace period
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(5, TimeUnit.SECONDS)) {
+                server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Port the server is bound to, which differs from taskify.grpc.port when that is 0.
+     */
+    public int port() {
+        if (server == null) {
+            throw new IllegalStateException("The gRPC API is not running");
+        }
+        return server.getPort();
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskify.grpc;
+
+import java.util.Optional;
+
+import com.taskify.model.User;
+import com.taskify.security.JwtAuthenticator;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * Authenticates gRPC calls from their "authorization: Bearer" metadata through the same
+ * {@link JwtAuthenticator} as {@link com.taskify.security.JwtFilter}. Calls without a valid token are
+ * closed with UNAUTHENTICATED before reaching the service.
+ */
+final class JwtServerInterceptor implements ServerInterceptor {
+
+    private static final Context.Key<User> USER = Context.key("taskify-user");
+    private static final Metadata.Key<String> AUTHORIZATION =
+        Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final JwtAuthenticator jwtAuthenticator;
+
+    JwtServerInterceptor(JwtAuthenticator jwtAuthenticator) {
+        this.jwtAuthenticator = jwtAuthenticator;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                       ServerCallHandler<Q, R> next) {
+        String token = JwtAuthenticator.bearerToken(headers.get(AUTHORIZATION));
+        Optional<User> user = token != null ? jwtAuthenticator.authenticate(token) : Optional.empty();
+        if (user.isEmpty()) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Unauthorized"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return Contexts.interceptCall(Context.current().withValue(USER, user.get()), call, headers, next);
+    }
+
+    /**
+     * User this interceptor authenticated for the current call.
+     */
+    static User currentUser() {
+        return USER.get();
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskify.grpc;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.taskify.grpc.v1.TaskChange;
+import com.taskify.service.TaskChangedEvent;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Fans committed {@link TaskChangedEvent}s out to the WatchTasks streams of their owner.
+ * Changes are never buffered for a watcher: one whose stream is not ready for more (its client reads
+ * slower than tasks change) is closed with RESOURCE_EXHAUSTED, so a slow client cannot hold memory or
+ * block the writer that published the change.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskChangeFeed {
+
+    private final Map<Long, Set<Watcher>> watchers = new ConcurrentHashMap<>();
+
+    public TaskChangeFeed(MeterRegistry meterRegistry) {
+        Gauge.builder("taskify.grpc.watchers", this, TaskChangeFeed::size)
+            .description("Open WatchTasks streams")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Streams the changes of a user's tasks to a call until it is cancelled or closed.
+     */
+    void watch(long userId, ServerCallStreamObserver<TaskChange> call) {
+        Watcher watcher = new Watcher(userId, call);
+        call.setOnCancelHandler(() -> remove(watcher));
+        watchers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(watcher);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<Watcher> userWatchers = watchers.get(event.userId());
+        if (userWatchers == null) {
+            return;
+        }
+        TaskChange change = TaskChange.newBuilder()
+            .setKind(TaskChange.Kind.valueOf(event.kind().name()))
+            .setTask(TaskifyGrpcService.toResponse(event.task()))
+            .build();
+        for (Watcher watcher : userWatchers) {
+            if (!watcher.send(change)) {
+                remove(watcher);
+            }
+        }
+    }
+
+    /**
+     * Number of open WatchTasks streams.
+     */
+    public int size() {
+        return watchers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void remove(Watcher watcher) {
+        watchers.computeIfPresent(watcher.userId, (id, userWatchers) -> {
+            userWatchers.remove(watcher);
+            return userWatchers.isEmpty() ? null : userWatchers;
+        });
+    }
+
+    private static final class Watcher {
+
+        private final long userId;
+        private final ServerCallStreamObserver<TaskChange> call;
+        // Stream observers are not thread-safe and changes arrive from any request thread
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean closed;
+
+        Watcher(long userId, ServerCallStreamObserver<TaskChange> call) {
+            this.userId = userId;
+            this.call = call;
+        }
+
+        /**
+         * @return false once the stream is closed and the watcher should be dropped
+         */
+        boolean send(TaskChange change) {
+            lock.lock();
+            try {
+                if (closed || call.isCancelled()) {
+                    return false;
+                }
+                if (!call.isReady()) {
+                    closed = true;
+                    call.onError(Status.RESOURCE_EXHAUSTED
+                        .withDescription("Client too slow for the change feed, list the tasks and watch again")
+                        .asRuntimeException());
+                    return false;
+                }
+                call.onNext(change);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.taskify.grpc;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.google.protobuf.Empty;
+import com.taskify.exception.InvalidRequestException;
+import com.taskify.exception.NotFoundException;
+import com.taskify.grpc.v1.AppointmentId;
+import com.taskify.grpc.v1.AppointmentResponse;
+import com.taskify.grpc.v1.ExportTasksRequest;
+import com.taskify.grpc.v1.ListAppointmentsRequest;
+import com.taskify.grpc.v1.ListTasksRequest;
+import com.taskify.grpc.v1.TaskChange;
+import com.taskify.grpc.v1.TaskId;
+import com.taskify.grpc.v1.TaskRequest;
+import com.taskify.grpc.v1.TaskResponse;
+import com.taskify.grpc.v1.TaskifyGrpc;
+import com.taskify.grpc.v1.UpdateTaskRequest;
+import com.taskify.grpc.v1.WatchTasksRequest;
+import com.taskify.model.Appointment;
+import com.taskify.model.Task;
+import com.taskify.model.TaskStatus;
+import com.taskify.model.User;
+import com.taskify.repository.TaskRepository;
+import com.taskify.service.AppointmentService;
+import com.taskify.service.TaskChangedEvent;
+import com.taskify.service.TaskService;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * gRPC implementation of the task and appointment API, on top of the same services as the REST
+ * controllers. Errors map to gRPC status codes: NOT_FOUND for a missing or foreign task, INVALID_ARGUMENT
+ * for invalid input, including titles and descriptions longer than the REST API accepts, and INTERNAL
+ * for anything else.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskifyGrpcService extends TaskifyGrpc.TaskifyImplBase {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskifyGrpcService.class);
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private final TaskService taskService;
+    private final AppointmentService appointmentService;
+    private final TaskRepository taskRepository;
+    private final TaskChangeFeed taskChangeFeed;
+    private final Counter taskCreatedCounter;
+    private final Counter taskCompletedCounter;
+
+    public TaskifyGrpcService(TaskService taskService,
+                              AppointmentService appointmentService,
+                              TaskRepository taskRepository,
+                              TaskChangeFeed taskChangeFeed,
+                              Counter taskCreatedCounter,
+                              Counter taskCompletedCounter) {
+        this.taskService = taskService;
+        this.appointmentService = appointmentService;
+        this.taskRepository = taskRepository;
+        this.taskChangeFeed = taskChangeFeed;
+        this.taskCreatedCounter = taskCreatedCounter;
+        this.taskCompletedCounter = taskCompletedCounter;
+    }
+
+    @Override
+    public void createTask(TaskRequest request, StreamObserver<TaskResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            User user = JwtServerInterceptor.currentUser();
+            Task task = taskService.createTask(requireTitle(request), description(request), status(request), user);
+            taskCreatedCounter.increment();
+            return toResponse(task);
+        });
+    }
+
+    @Override
+    public void getTask(TaskId request, StreamObserver<TaskResponse> responseObserver) {
+        unary(responseObserver, () ->
+            toResponse(taskService.getTaskById(request.getId(), JwtServerInterceptor.currentUser())));
+    }
+
+    @Override
+    public void updateTask(UpdateTaskRequest request, StreamObserver<TaskResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            TaskRequest task = request.getTask();
+            Task updated = taskService.updateTask(request.getId(), requireTitle(task), description(task),
+                status(task), JwtServerInterceptor.currentUser());
+            // Track task completion
+            if (updated.getStatus() == TaskStatus.DONE) {
+                taskCompletedCounter.increment();
+            }
+            return toResponse(updated);
+        });
+    }
+
+    @Override
+    public void deleteTask(TaskId request, StreamObserver<Empty> responseObserver) {
+        unary(responseObserver, () -> {
+            taskService.deleteTask(request.getId(), JwtServerInterceptor.currentUser());
+            return Empty.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public void listTasks(ListTasksRequest request, StreamObserver<TaskResponse> responseObserver) {
+        serverStreaming(responseObserver, () -> taskService.getAllTasksForUser(JwtServerInterceptor.currentUser())
+            .stream().map(TaskifyGrpcService::toResponse).toList());
+    }
+
+    /**
+     * Reads one page of tasks at a time, and the next one only when the client has consumed the
+     * previous one: at most a page is held in memory however large the export.
+     */
+    @Override
+    public void exportTasks(ExportTasksRequest request, StreamObserver<TaskResponse> responseObserver) {
+        ServerCallStreamObserver<TaskResponse> call = (ServerCallStreamObserver<TaskResponse>) responseObserver;
+        TaskExport export = new TaskExport(JwtServerInterceptor.currentUser().getId(), request.getAfterId(), call);
+        call.setOnCancelHandler(export::cancel);
+        call.setOnReadyHandler(export::drain);
+        export.drain();
+    }
+
+    @Override
+    public void watchTasks(WatchTasksRequest request, StreamObserver<TaskChange> responseObserver) {
+        taskChangeFeed.watch(JwtServerInterceptor.currentUser().getId(),
+            (ServerCallStreamObserver<TaskChange>) responseObserver);
+    }
+
+    @Override
+    public void getAppointment(AppointmentId request, StreamObserver<AppointmentResponse> responseObserver) {
+        unary(responseObserver, () -> toResponse(
+            appointmentService.getAppointmentById(request.getId(), JwtServerInterceptor.currentUser())));
+    }
+
+    @Override
+    public void listAppointments(ListAppointmentsRequest request,
+                                 StreamObserver<AppointmentResponse> responseObserver) {
+        serverStreaming(responseObserver, () ->
+            appointmentService.getAllAppointmentsForUser(JwtServerInterceptor.currentUser())
+                .stream().map(TaskifyGrpcService::toResponse).toList());
+    }
+
+    /**
+     * Completes a unary call with the result of an action, or with the status its exception maps to.
+     */
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> action) {
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Streams the responses an action loads, or fails the call with the status its exception maps to.
+     */
+    private static <T> void serverStreaming(StreamObserver<T> responseObserver, Supplier<List<T>> action) {
+        List<T> responses;
+        try {
+            responses = action.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+            return;
+        }
+        for (T response : responses) {
+            responseObserver.onNext(response);
+        }
+        responseObserver.onCompleted();
+    }
+
+    private static StatusRuntimeException toStatus(RuntimeException e) {
+        if (e instanceof NotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof InvalidRequestException || e instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+        }
+        log.error("gRPC call failed", e);
+        return Status.INTERNAL.withDescription("Internal server error").asRuntimeException();
+    }
+
+    private static String requireTitle(TaskRequest request) {
+        if (request.getTitle().isBlank()) {
+            throw new InvalidRequestException("Title is required");
+        }
+        if (request.getTitle().length() > Task.TITLE_MAX_LENGTH) {
+            throw new InvalidRequestException("Title must be at most " + Task.TITLE_MAX_LENGTH + " characters");
+        }
+        return request.getTitle();
+    }
+
+    private static String description(TaskRequest request) {
+        if (!request.hasDescription()) {
+            return null;
+        }
+        if (request.getDescription().length() > Task.DESCRIPTION_MAX_LENGTH) {
+            throw new InvalidRequestException(
+                "Description must be at most " + Task.DESCRIPTION_MAX_LENGTH + " characters");
+        }
+        return request.getDescription();
+    }
+
+    private static TaskStatus status(TaskRequest request) {
+        return switch (request.getStatus()) {
+            case TASK_STATUS_UNSPECIFIED -> null;
+            case TODO -> TaskStatus.TODO;
+            case DONE -> TaskStatus.DONE;
+            default -> throw new InvalidRequestException("Unknown status " + request.getStatusValue());
+        };
+    }
+
+    private static com.taskify.grpc.v1.TaskStatus status(TaskStatus status) {
+        return status == TaskStatus.DONE ? com.taskify.grpc.v1.TaskStatus.DONE : com.taskify.grpc.v1.TaskStatus.TODO;
+    }
+
+    static TaskResponse toResponse(Task task) {
+        return toResponse(task.getId(), task.getTitle(), task.getDescription(), task.getStatus());
+    }
+
+    static TaskResponse toResponse(TaskChangedEvent.Snapshot task) {
+        return toResponse(task.id(), task.title(), task.description(), task.status());
+    }
+
+    private static TaskResponse toResponse(long id, String title, String description, TaskStatus status) {
+        TaskResponse.Builder response = TaskResponse.newBuilder()
+            .setId(id)
+            .setTitle(title)
+            .setStatus(status(status));
+        if (description != null) {
+            response.setDescription(description);
+        }
+        return response.build();
+    }
+
+    private static AppointmentResponse toResponse(Appointment appointment) {
+        return AppointmentResponse.newBuilder()
+            .setId(appointment.getId())
+            .setSubject(appointment.getSubject())
+            .setDate(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(appointment.getDate()))
+            .build();
+    }
+
+    /**
+     * State of one ExportTasks call. gRPC runs the callbacks of a call one at a time, so no locking.
+     */
+    private final class TaskExport {
+
+        private final long userId;
+        private final ServerCallStreamObserver<TaskResponse> call;
+        private long lastId;
+        private Iterator<Task> page = List.<Task>of().iterator();
+        private boolean lastPage;
+        private boolean done;
+
+        TaskExport(long userId, long afterId, ServerCallStreamObserver<TaskResponse> call) {
+            this.userId = userId;
+            this.lastId = afterId;
+            this.call = call;
+        }
+
+        void drain() {
+            while (!done && call.isReady()) {
+                if (!page.hasNext()) {
+                    if (lastPage) {
+                        done = true;
+                        call.onCompleted();
+                        return;
+                    }
+                    List<Task> tasks;
+                    try {
+                        tasks = taskRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                            userId, lastId, PageRequest.ofSize(EXPORT_PAGE_SIZE));
+                    } catch (RuntimeException e) {
+                        done = true;
+                        call.onError(toStatus(e));
+                        return;
+                    }
+                    lastPage = tasks.size() < EXPORT_PAGE_SIZE;
+                    page = tasks.iterator();
+                    continue;
+                }
+                Task task = page.next();
+                lastId = task.getId();
+                call.onNext(toResponse(task));
+            }
+        }
+
+        void cancel() {
+            done = true;
+        }
+    }
+}
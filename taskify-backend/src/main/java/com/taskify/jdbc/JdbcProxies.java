@@ -0,0 +1,188 @@
+package com.taskify.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Dynamic proxies for the JDBC objects behind an instrumented connection.
+ * Only the calls that matter for timing are intercepted; everything else is passed through.
+ */
+final class JdbcProxies {
+
+    private JdbcProxies() {
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Wraps the statements a connection creates; the SQL of prepared statements is known up front.
+     */
+    static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final StatementRecorder recorder;
+
+        ConnectionHandler(Connection target, StatementRecorder recorder) {
+            this.target = target;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = JdbcProxies.invoke(target, method, args);
+            String name = method.getName();
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return statementProxy(statement, CallableStatement.class, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return statementProxy(statement, PreparedStatement.class, (String) args[0]);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return statementProxy(statement, Statement.class, null);
+            }
+            return result;
+        }
+
+        private Object statementProxy(Statement statement, Class<?> type, String sql) {
+            return Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(), new Class<?>[] {type},
+                new StatementHandler(statement, sql, recorder));
+        }
+    }
+
+    /**
+     * Times execute* calls and keeps the latest bind values for the slow-query log.
+     */
+    static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final StatementRecorder recorder;
+        private Object[] binds;
+
+        StatementHandler(Statement target, String preparedSql, StatementRecorder recorder) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, args[1]);
+                return JdbcProxies.invoke(target, method, args);
+            }
+            if (name.equals("clearParameters")) {
+                binds = null;
+                return JdbcProxies.invoke(target, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return JdbcProxies.invoke(target, method, args);
+            }
+
+            String sql = preparedSql != null ? preparedSql : args != null && args.length > 0 ? (String) args[0] : "";
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = JdbcProxies.invoke(target, method, args);
+            } catch (Throwable e) {
+                recorder.record(sql, System.nanoTime() - start, -1, binds, false);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (result instanceof ResultSet resultSet) {
+                recorder.record(sql, elapsed, -1, binds, true);
+                return Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                    new ResultSetHandler(resultSet, sql, recorder));
+            }
+            recorder.record(sql, elapsed, updateCount(result), binds, true);
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            if (!recorder.capturesBinds() || index < 1 || index > 256) {
+                return;
+            }
+            if (binds == null || binds.length < index) {
+                Object[] grown = new Object[Math.max(index, binds == null ? 8 : binds.length * 2)];
+                if (binds != null) {
+                    System.arraycopy(binds, 0, grown, 0, binds.length);
+                }
+                binds = grown;
+            }
+            binds[index - 1] = value;
+        }
+
+        private static long updateCount(Object result) {
+            if (result instanceof Integer count) {
+                return count;
+            }
+            if (result instanceof Long count) {
+                return count;
+            }
+            if (result instanceof int[] counts) {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+                return total;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Counts the rows a query returns; the count is recorded when the result set is exhausted or closed.
+     */
+    static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String sql;
+        private final StatementRecorder recorder;
+        private long rows;
+        private boolean recorded;
+
+        ResultSetHandler(ResultSet target, String sql, StatementRecorder recorder) {
+            this.target = target;
+            this.sql = sql;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = JdbcProxies.invoke(target, method, args);
+            String name = method.getName();
+            if (name.equals("next")) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                } else {
+                    recordRows();
+                }
+            } else if (name.equals("close")) {
+                recordRows();
+            }
+            return result;
+        }
+
+        private void recordRows() {
+            if (!recorded) {
+                recorded = true;
+                recorder.recordRows(sql, rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskify.jdbc;
+
+/**
+ * Counts and times JDBC statements executed on the current thread between {@link #begin()} and {@link #end()},
+ * keeping the first {@value #MAX_STATEMENTS} statements and their timings.
+ * Statements run outside a scope, e.g. by background writers, are not counted.
+ * The per-thread state is reused by the requests a pooled platform thread serves; a virtual thread serves
+ * one request and allocates new state.
+ */
+public final class QueryCounter {
+
+    public static final int MAX_STATEMENTS = 32;
+
+    private static final class State {
+        boolean active;
+        int count;
+        long nanos;
+        long rows;
+        final String[] sql = new String[MAX_STATEMENTS];
+        final long[] sqlNanos = new long[MAX_STATEMENTS];
+    }
+
+    private static final ThreadLocal<State> CURRENT = ThreadLocal.withInitial(State::new);
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Start counting on this thread. Nested scopes share the outer one.
+     * @return true if this call opened the scope, and should close it with {@link #end()}
+     */
+    public static boolean begin() {
+        State state = CURRENT.get();
+        if (state.active) {
+            return false;
+        }
+        state.active = true;
+        state.count = 0;
+        state.nanos = 0;
+        state.rows = 0;
+        return true;
+    }
+
+    /**
+     * Stop counting on this thread. The totals stay readable through {@link #count()} and {@link #totalNanos()}.
+     * @return the number of statements executed since {@link #begin()}
+     */
+    public static int end() {
+        State state = CURRENT.get();
+        state.active = false;
+        return state.count;
+    }
+
+    /**
+     * Statements executed in the current or last scope on this thread.
+     */
+    public static int count() {
+        return CURRENT.get().count;
+    }
+
+    /**
+     * Time spent executing statements in the current or last scope on this thread.
+     */
+    public static long totalNanos() {
+        return CURRENT.get().nanos;
+    }
+
+    /**
+     * Rows read from result sets in the current or last scope on this thread.
+     */
+    public static long rows() {
+        return CURRENT.get().rows;
+    }
+
+    /**
+     * SQL of the i-th statement of the current or last scope, for i below min(count, MAX_STATEMENTS).
+     */
+    public static String statement(int index) {
+        return CURRENT.get().sql[index];
+    }
+
+    /**
+     * Execution time of the i-th statement of the current or last scope.
+     */
+    public static long statementNanos(int index) {
+        return CURRENT.get().sqlNanos[index];
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        State state = CURRENT.get();
+        if (state.active) {
+            if (state.count < MAX_STATEMENTS) {
+                state.sql[state.count] = sql;
+                state.sqlNanos[state.count] = elapsedNanos;
+            }
+            state.count++;
+            state.nanos += elapsedNanos;
+        }
+    }
+
+    static void recordRows(long rowCount) {
+        State state = CURRENT.get();
+        if (state.active) {
+            state.rows += rowCount;
+        }
+    }
+}
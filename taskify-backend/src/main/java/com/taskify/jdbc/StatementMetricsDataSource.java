@@ -0,0 +1,38 @@
+package com.taskify.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource wrapper that hands out instrumented connections.
+ * Every statement they create reports its timing and row count to a {@link StatementRecorder}.
+ */
+public class StatementMetricsDataSource extends DelegatingDataSource {
+
+    private final StatementRecorder recorder;
+
+    public StatementMetricsDataSource(DataSource target, StatementRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+            new JdbcProxies.ConnectionHandler(connection, recorder));
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskify.jdbc;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records JDBC statement timings and row counts per statement shape (operation and main table),
+ * and logs statements slower than a threshold.
+ * Bind values are only kept when they may be logged, and only a sample of slow statements logs them.
+ */
+public class StatementRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger("com.taskify.jdbc.SlowQuery");
+
+    private static final Pattern TABLE = Pattern.compile(
+        "\\b(?:from|into|update|merge\\s+into|table)\\s+([a-z0-9_.\"]+)", Pattern.CASE_INSENSITIVE);
+
+    // Hibernate and the write-behind writer use a bounded set of SQL strings; anything past this is "other"
+    private static final int MAX_SHAPES = 1000;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final double bindSampleRate;
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    private final Shape other;
+
+    private final class Shape {
+        final String operation;
+        final String table;
+        final Timer success;
+        final Timer error;
+        final DistributionSummary rows;
+
+        Shape(String operation, String table) {
+            this.operation = operation;
+            this.table = table;
+            this.success = timer("success");
+            this.error = timer("error");
+            this.rows = DistributionSummary.builder("taskify.jdbc.rows")
+                .description("Rows returned or affected per JDBC statement")
+                .tag("operation", operation)
+                .tag("table", table)
+                .register(meterRegistry);
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder("taskify.jdbc.statements")
+                .description("JDBC statement execution time by statement shape")
+                .tag("operation", operation)
+                .tag("table", table)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @param slowThreshold statements taking at least this long are logged; zero disables the log
+     * @param bindSampleRate share of logged slow statements that include their bind values
+     */
+    public StatementRecorder(MeterRegistry meterRegistry, Duration slowThreshold, double bindSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.bindSampleRate = bindSampleRate;
+        this.other = new Shape("other", "other");
+    }
+
+    /**
+     * Whether statements should keep their bind values for the slow-query log.
+     */
+    boolean capturesBinds() {
+        return slowThresholdNanos > 0 && bindSampleRate > 0;
+    }
+
+    void record(String sql, long elapsedNanos, long rowCount, Object[] binds, boolean success) {
+        QueryCounter.record(sql, elapsedNanos);
+        Shape shape = shape(sql);
+        (success ? shape.success : shape.error).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (rowCount >= 0) {
+            shape.rows.record(rowCount);
+        }
+        if (slowThresholdNanos > 0 && elapsedNanos >= slowThresholdNanos) {
+            logSlow(sql, elapsedNanos, binds);
+        }
+    }
+
+    void recordRows(String sql, long rowCount) {
+        QueryCounter.recordRows(rowCount);
+        shape(sql).rows.record(rowCount);
+    }
+
+    /**
+     * Statement shape tags: the leading keyword and the first table it names.
+     */
+    static String[] describe(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String operation = end == 0 ? "other" : trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        Matcher matcher = TABLE.matcher(trimmed);
+        String table = matcher.find() ? matcher.group(1).replace("\"", "").toLowerCase(Locale.ROOT) : "none";
+        return new String[] {operation, table};
+    }
+
+    private Shape shape(String sql) {
+        Shape shape = shapes.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        if (shapes.size() >= MAX_SHAPES) {
+            return other;
+        }
+        return shapes.computeIfAbsent(sql, key -> {
+            String[] tags = describe(key);
+            return new Shape(tags[0], tags[1]);
+        });
+    }
+
+    private void logSlow(String sql, long elapsedNanos, Object[] binds) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (binds != null && ThreadLocalRandom.current().nextDouble() < bindSampleRate) {
+            log.warn("Slow statement ({} ms): {} binds={}", millis, sql, Arrays.toString(binds));
+        } else {
+            log.warn("Slow statement ({} ms): {}", millis, sql);
+        }
+    }
+}
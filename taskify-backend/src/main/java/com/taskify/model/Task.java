@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 
@@ -22,15 +23,20 @@ import jakarta.validation.constraints.NotBlank;
 @Table(name = "tasks")
 public class Task {
 
+    public static final int TITLE_MAX_LENGTH = 255;
+    public static final int DESCRIPTION_MAX_LENGTH = 500;
+
+    // Pooled sequence: ids can be assigned before the insert and inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
-    @Column(nullable = false)
+    @Column(nullable = false, length = TITLE_MAX_LENGTH)
     private String title;
 
-    @Column(length = 500)
+    @Column(length = DESCRIPTION_MAX_LENGTH)
     private String description;
 
     @Enumerated(EnumType.STRING)
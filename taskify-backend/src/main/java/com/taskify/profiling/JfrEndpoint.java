@@ -0,0 +1,94 @@
+package com.taskify.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint driving JFR recordings, restricted to the OPS role:
+ * <ul>
+ *   <li>GET /actuator/jfr - list recordings</li>
+ *   <li>POST /actuator/jfr {"profile": "profile", "duration": "60s"} - start one</li>
+ *   <li>POST /actuator/jfr/{id} - stop it early</li>
+ *   <li>GET /actuator/jfr/{id} - download the .jfr file, once stopped</li>
+ *   <li>GET /actuator/jfr/{id}/summary - hot methods and allocations as JSON</li>
+ *   <li>DELETE /actuator/jfr/{id} - discard it</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.jfr.enabled", havingValue = "true", matchIfMissing = true)
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final String DEFAULT_PROFILE = "profile";
+    private static final Duration DEFAULT_DURATION = Duration.ofMinutes(1);
+    private static final int SUMMARY_ENTRIES = 20;
+
+    private final JfrRecordings recordings;
+
+    public JfrEndpoint(JfrRecordings recordings) {
+        this.recordings = recordings;
+    }
+
+    @ReadOperation
+    public List<JfrRecordings.RecordingInfo> recordings() {
+        return recordings.list();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable String profile, @Nullable Duration duration)
+            throws IOException {
+        try {
+            return new WebEndpointResponse<>(recordings.start(profile != null ? profile : DEFAULT_PROFILE,
+                duration != null ? duration : DEFAULT_DURATION));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(e.getMessage(), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(e.getMessage(), 409);
+        }
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<JfrRecordings.RecordingInfo> stop(@Selector long id) throws IOException {
+        return recordings.stop(id)
+            .map(WebEndpointResponse::new)
+            .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) {
+        Optional<Path> file = recordings.file(id);
+        return file.<WebEndpointResponse<Resource>>map(path -> new WebEndpointResponse<>(new FileSystemResource(path)))
+            .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<JfrSummary.Summary> summary(@Selector long id, @Selector String report)
+            throws IOException {
+        Optional<Path> file = recordings.file(id);
+        if (!report.equals("summary") || file.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(JfrSummary.summarize(file.get(), SUMMARY_ENTRIES));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> discard(@Selector long id) {
+        return new WebEndpointResponse<>(recordings.discard(id)
+            ? WebEndpointResponse.STATUS_NO_CONTENT : WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
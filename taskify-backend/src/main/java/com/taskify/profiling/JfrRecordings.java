@@ -0,0 +1,224 @@
+package com.taskify.profiling;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * On-demand Java Flight Recorder sessions.
+ * One recording runs at a time; it stops by itself after its duration and is written to the
+ * configured directory, where the last few recordings are kept for download and summarizing.
+ * Guarded by a lock rather than synchronized, as starting and stopping write files: on Java 21 a virtual
+ * thread blocking inside a monitor pins its carrier thread.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrRecordings implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordings.class);
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final int maxRecordings;
+    private final AtomicLong ids = new AtomicLong();
+    // Guards sessions
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Session> sessions = new LinkedHashMap<>();
+
+    /**
+     * State of a recording, as listed by the endpoint.
+     * @param state RUNNING, then CLOSED once stopped and written to its file
+     * @param sizeBytes size of the .jfr file, 0 until the recording has stopped
+     */
+    public record RecordingInfo(long id, String profile, Instant start, Duration duration, String state,
+                                long sizeBytes) {
+    }
+
+    private record Session(long id, String profile, Recording recording, Path file) {
+
+        boolean isRunning() {
+            return recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED;
+        }
+
+        RecordingInfo info() throws IOException {
+            long size = !isRunning() && Files.exists(file) ? Files.size(file) : 0;
+            return new RecordingInfo(id, profile, recording.getStartTime(), recording.getDuration(),
+                recording.getState().name(), size);
+        }
+    }
+
+    public JfrRecordings(@Value("${taskify.jfr.directory:${java.io.tmpdir}/taskify-jfr}") Path directory,
+                         @Value("${taskify.jfr.max-duration:10m}") Duration maxDuration,
+                         @Value("${taskify.jfr.max-recordings:5}") int maxRecordings) {
+        this.directory = directory;
+        this.maxDuration = maxDuration;
+        this.maxRecordings = maxRecordings;
+    }
+
+    /**
+     * Start a recording.
+     * @param profile JFR configuration name, e.g. "default" (about 1% overhead) or "profile" (about 2%,
+     *                more frequent CPU and allocation samples)
+     * @param duration how long to record, at most taskify.jfr.max-duration
+     * @throws IllegalArgumentException for an unknown profile or an invalid duration
+     * @throws IllegalStateException if a recording is already running
+     */
+    public RecordingInfo start(String profile, Duration duration) throws IOException {
+        lock.lock();
+        try {
+            if (duration.isZero() || duration.isNegative() || duration.compareTo(maxDuration) > 0) {
+                throw new IllegalArgumentException("Duration must be positive and at most " + maxDuration);
+            }
+            Configuration configuration;
+            try {
+                configuration = Configuration.getConfiguration(profile);
+            } catch (ParseException | IOException e) {
+                throw new IllegalArgumentException("Unknown JFR profile: " + profile);
+            }
+            if (sessions.values().stream().anyMatch(Session::isRunning)) {
+                throw new IllegalStateException("A recording is already running");
+            }
+
+            long id = ids.incrementAndGet();
+            Files.createDirectories(directory);
+            Path file = directory.resolve("taskify-" + id + "-" + System.currentTimeMillis() + ".jfr");
+            Recording recording = new Recording(configuration);
+            recording.setName("taskify-" + id);
+            recording.setToDisk(true);
+            recording.setDuration(duration);
+            recording.setDestination(file);
+            recording.start();
+
+            sessions.put(id, new Session(id, profile, recording, file));
+            evictOldRecordings();
+            log.info("Started JFR recording {} with profile {} for {}", id, profile, duration);
+            return sessions.get(id).info();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop a recording before its duration has elapsed; its file is written on stop.
+     */
+    public Optional<RecordingInfo> stop(long id) throws IOException {
+        lock.lock();
+        try {
+            Session session = sessions.get(id);
+            if (session == null) {
+                return Optional.empty();
+            }
+            if (session.isRunning()) {
+                session.recording().stop();
+                log.info("Stopped JFR recording {}", id);
+            }
+            return Optional.of(session.info());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The .jfr file of a stopped recording; empty while it is still running.
+     */
+    public Optional<Path> file(long id) {
+        lock.lock();
+        try {
+            Session session = sessions.get(id);
+            if (session == null || session.isRunning() || !Files.exists(session.file())) {
+                return Optional.empty();
+            }
+            return Optional.of(session.file());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<RecordingInfo> list() {
+        lock.lock();
+        try {
+            List<RecordingInfo> infos = new ArrayList<>(sessions.size());
+            try {
+                for (Session session : sessions.values()) {
+                    infos.add(session.info());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return infos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop a recording if needed and delete its file.
+     * @return false if there is no such recording
+     */
+    public boolean discard(long id) {
+        lock.lock();
+        try {
+            Session session = sessions.remove(id);
+            if (session == null) {
+                return false;
+            }
+            close(session);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            sessions.values().forEach(session -> session.recording().close());
+            sessions.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictOldRecordings() {
+        var iterator = sessions.values().iterator();
+        while (sessions.size() > maxRecordings && iterator.hasNext()) {
+            Session oldest = iterator.next();
+            if (!oldest.isRunning()) {
+                iterator.remove();
+                close(oldest);
+            }
+        }
+    }
+
+    private static void close(Session session) {
+        session.recording().close();
+        try {
+            Files.deleteIfExists(session.file());
+        } catch (IOException e) {
+            log.warn("Could not delete JFR file {}", session.file(), e);
+        }
+    }
+}
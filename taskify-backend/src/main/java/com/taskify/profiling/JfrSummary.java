@@ -0,0 +1,142 @@
+package com.taskify.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Hot-method and allocation report of a .jfr file.
+ * CPU time comes from jdk.ExecutionSample events, attributed both to the executing method and to the
+ * innermost Taskify method on the stack; allocations come from the weighted jdk.ObjectAllocationSample
+ * events, by allocated type and by allocating method.
+ */
+public final class JfrSummary {
+
+    private static final String APPLICATION_PACKAGE = "com.taskify.";
+
+    /**
+     * @param executionSamples CPU samples in the recording
+     * @param hotMethods methods executing when sampled (self time)
+     * @param hotApplicationMethods innermost com.taskify method of each sample
+     * @param allocatedBytes estimated bytes allocated over the recording
+     */
+    public record Summary(long executionSamples, List<Entry> hotMethods, List<Entry> hotApplicationMethods,
+                          long allocatedBytes, List<Entry> allocationsByType, List<Entry> allocationSites) {
+    }
+
+    /**
+     * @param value samples or bytes
+     * @param percent share of the total, 0-100
+     */
+    public record Entry(String name, long value, double percent) {
+    }
+
+    private JfrSummary() {
+    }
+
+    /**
+     * Summarize a recording.
+     * @param limit entries kept per list
+     */
+    public static Summary summarize(Path file, int limit) throws IOException {
+        Map<String, Long> self = new HashMap<>();
+        Map<String, Long> application = new HashMap<>();
+        Map<String, Long> byType = new HashMap<>();
+        Map<String, Long> bySite = new HashMap<>();
+        long samples = 0;
+        long allocated = 0;
+
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                switch (event.getEventType().getName()) {
+                    case "jdk.ExecutionSample" -> {
+                        RecordedStackTrace stackTrace = event.getStackTrace();
+                        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+                            continue;
+                        }
+                        samples++;
+                        self.merge(method(stackTrace.getFrames().get(0)), 1L, Long::sum);
+                        String applicationMethod = applicationMethod(stackTrace);
+                        if (applicationMethod != null) {
+                            application.merge(applicationMethod, 1L, Long::sum);
+                        }
+                    }
+                    case "jdk.ObjectAllocationSample" -> {
+                        long weight = event.getLong("weight");
+                        allocated += weight;
+                        RecordedClass type = event.getClass("objectClass");
+                        byType.merge(type != null ? typeName(type.getName()) : "unknown", weight, Long::sum);
+                        RecordedStackTrace stackTrace = event.getStackTrace();
+                        if (stackTrace != null && !stackTrace.getFrames().isEmpty()) {
+                            bySite.merge(method(stackTrace.getFrames().get(0)), weight, Long::sum);
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        return new Summary(samples, top(self, samples, limit), top(application, samples, limit),
+            allocated, top(byType, allocated, limit), top(bySite, allocated, limit));
+    }
+
+    private static String method(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    /**
+     * Java name of a class, arrays included: "[B" becomes "byte[]".
+     */
+    static String typeName(String name) {
+        int dimensions = 0;
+        while (dimensions < name.length() && name.charAt(dimensions) == '[') {
+            dimensions++;
+        }
+        if (dimensions == 0) {
+            return name;
+        }
+        String element = switch (name.charAt(dimensions)) {
+            case 'Z' -> "boolean";
+            case 'B' -> "byte";
+            case 'C' -> "char";
+            case 'S' -> "short";
+            case 'I' -> "int";
+            case 'J' -> "long";
+            case 'F' -> "float";
+            case 'D' -> "double";
+            default -> name.substring(dimensions + 1, name.length() - 1);
+        };
+        return element + "[]".repeat(dimensions);
+    }
+
+    private static String applicationMethod(RecordedStackTrace stackTrace) {
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            // Skip CGLIB and proxy classes generated for Taskify beans
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE) && !type.contains("$$")) {
+                return method(frame);
+            }
+        }
+        return null;
+    }
+
+    private static List<Entry> top(Map<String, Long> counts, long total, int limit) {
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(limit)
+            .map(entry -> new Entry(entry.getKey(), entry.getValue(),
+                Math.round(entry.getValue() * 1000.0 / total) / 10.0))
+            .toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskify.reactive;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.taskify.security.JwtAuthenticator;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Authenticates reactive API requests from their bearer token with the same {@link JwtAuthenticator}
+ * checks as {@link com.taskify.security.JwtFilter}, then resolves the user through R2DBC. Token checks are pure
+ * computation and run on the event loop; the user lookup runs on the database scheduler, like the
+ * handlers' queries. Requests without a valid token get a 401.
+ */
+final class ReactiveJwtFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private static final String USER_ID_ATTRIBUTE = ReactiveJwtFilter.class.getName() + ".userId";
+
+    private final JwtAuthenticator jwtAuthenticator;
+    private final DatabaseClient databaseClient;
+    private final Scheduler databaseScheduler;
+
+    ReactiveJwtFilter(JwtAuthenticator jwtAuthenticator, DatabaseClient databaseClient, Scheduler databaseScheduler) {
+        this.jwtAuthenticator = jwtAuthenticator;
+        this.databaseClient = databaseClient;
+        this.databaseScheduler = databaseScheduler;
+    }
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String token = JwtAuthenticator.bearerToken(request.headers().firstHeader(HttpHeaders.AUTHORIZATION));
+        String email = token != null ? jwtAuthenticator.verifiedEmail(token) : null;
+        if (email == null) {
+            return unauthorized();
+        }
+        return databaseClient.sql("SELECT id FROM users WHERE email = :email")
+            .bind("email", email)
+            .map(row -> row.get("id", Long.class))
+            .one()
+            .subscribeOn(databaseScheduler)
+            .flatMap(userId -> {
+                request.attributes().put(USER_ID_ATTRIBUTE, userId);
+                return next.handle(request);
+            })
+            .switchIfEmpty(Mono.defer(ReactiveJwtFilter::unauthorized));
+    }
+
+    /**
+     * ID of the user this filter authenticated.
+     */
+    static long userId(ServerRequest request) {
+        return (Long) request.attributes().get(USER_ID_ATTRIBUTE);
+    }
+
+    private static Mono<ServerResponse> unauthorized() {
+        return ReactiveReadHandler.error(HttpStatus.UNAUTHORIZED, "Unauthorized");
+    }
+}
@@ -0,0 +1,133 @@
+package com.taskify.reactive;
+
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.taskify.controller.AppointmentController.AppointmentResponse;
+import com.taskify.controller.ErrorResponse;
+import com.taskify.controller.TaskController.TaskResponse;
+import com.taskify.model.TaskStatus;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Read handlers of the reactive API. Rows are mapped straight to the MVC response DTOs, without
+ * loading entities, and lists and exports are written as the rows arrive.
+ * Every query is scoped to the user {@link ReactiveJwtFilter} authenticated.
+ * r2dbc-h2 runs the embedded engine synchronously on the subscribing thread, so queries are subscribed
+ * on the database scheduler instead of the event loop.
+ */
+final class ReactiveReadHandler {
+
+    private static final String TASK_COLUMNS = "SELECT id, title, description, status FROM tasks";
+    private static final String APPOINTMENT_COLUMNS = "SELECT id, subject, date FROM appointments";
+
+    private static final BiFunction<Row, RowMetadata, TaskResponse> TASK = (row, metadata) -> {
+        TaskResponse response = new TaskResponse();
+        response.setId(row.get("id", Long.class));
+        response.setTitle(row.get("title", String.class));
+        response.setDescription(row.get("description", String.class));
+        response.setStatus(TaskStatus.valueOf(row.get("status", String.class)));
+        return response;
+    };
+
+    private static final BiFunction<Row, RowMetadata, AppointmentResponse> APPOINTMENT = (row, metadata) -> {
+        AppointmentResponse response = new AppointmentResponse();
+        response.setId(row.get("id", Long.class));
+        response.setSubject(row.get("subject", String.class));
+        response.setDate(row.get("date", LocalDateTime.class));
+        return response;
+    };
+
+    private final DatabaseClient databaseClient;
+    private final Scheduler databaseScheduler;
+
+    ReactiveReadHandler(DatabaseClient databaseClient, Scheduler databaseScheduler) {
+        this.databaseClient = databaseClient;
+        this.databaseScheduler = databaseScheduler;
+    }
+
+    Mono<ServerResponse> listTasks(ServerRequest request) {
+        return ok(MediaType.APPLICATION_JSON, tasks(request, ""), TaskResponse.class);
+    }
+
+    /**
+     * All tasks of the user as newline-delimited JSON, one task per line, in ID order.
+     */
+    Mono<ServerResponse> exportTasks(ServerRequest request) {
+        return ok(MediaType.APPLICATION_NDJSON, tasks(request, " ORDER BY id"), TaskResponse.class);
+    }
+
+    Mono<ServerResponse> getTask(ServerRequest request) {
+        return detail(request, TASK_COLUMNS, TASK, "Task not found or access denied");
+    }
+
+    Mono<ServerResponse> listAppointments(ServerRequest request) {
+        return ok(MediaType.APPLICATION_JSON, appointments(request, ""), AppointmentResponse.class);
+    }
+
+    /**
+     * All appointments of the user as newline-delimited JSON, in date order.
+     */
+    Mono<ServerResponse> exportAppointments(ServerRequest request) {
+        return ok(MediaType.APPLICATION_NDJSON, appointments(request, " ORDER BY date, id"), AppointmentResponse.class);
+    }
+
+    Mono<ServerResponse> getAppointment(ServerRequest request) {
+        return detail(request, APPOINTMENT_COLUMNS, APPOINTMENT, "Appointment not found or access denied");
+    }
+
+    private Flux<TaskResponse> tasks(ServerRequest request, String orderBy) {
+        return databaseClient.sql(TASK_COLUMNS + " WHERE user_id = :userId" + orderBy)
+            .bind("userId", ReactiveJwtFilter.userId(request))
+            .map(TASK)
+            .all()
+            .subscribeOn(databaseScheduler);
+    }
+
+    private Flux<AppointmentResponse> appointments(ServerRequest request, String orderBy) {
+        return databaseClient.sql(APPOINTMENT_COLUMNS + " WHERE user_id = :userId" + orderBy)
+            .bind("userId", ReactiveJwtFilter.userId(request))
+            .map(APPOINTMENT)
+            .all()
+            .subscribeOn(databaseScheduler);
+    }
+
+    private <T> Mono<ServerResponse> detail(ServerRequest request, String select,
+                                            BiFunction<Row, RowMetadata, T> mapper, String notFound) {
+        long id;
+        try {
+            id = Long.parseLong(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid id: " + request.pathVariable("id"));
+        }
+        return databaseClient.sql(select + " WHERE id = :id AND user_id = :userId")
+            .bind("id", id)
+            .bind("userId", ReactiveJwtFilter.userId(request))
+            .map(mapper)
+            .one()
+            .subscribeOn(databaseScheduler)
+            .flatMap(body -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body))
+            .switchIfEmpty(Mono.defer(() -> error(HttpStatus.NOT_FOUND, notFound)));
+    }
+
+    private static <T> Mono<ServerResponse> ok(MediaType contentType, Flux<T> body, Class<T> type) {
+        return ServerResponse.ok().contentType(contentType).body(body, type);
+    }
+
+    static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new ErrorResponse(message));
+    }
+}
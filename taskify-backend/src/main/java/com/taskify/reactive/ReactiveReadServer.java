@@ -0,0 +1,152 @@
+package com.taskify.reactive;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.security.JwtAuthenticator;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Reactive read API for tasks and appointments: WebFlux functional endpoints on their own Reactor Netty
+ * server and port, reading the application's H2 database through R2DBC. It serves the same list and
+ * detail routes and JSON as the MVC controllers, plus NDJSON exports streamed with backpressure, and
+ * authenticates with the same JWTs.
+ * It runs next to the servlet stack rather than replacing it, so the servlet filters (rate and
+ * concurrency limits, metrics) do not apply to it.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    private static final String JDBC_H2_PREFIX = "jdbc:h2:";
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final int port;
+    private final int poolSize;
+    private final JwtAuthenticator jwtAuthenticator;
+    private final ObjectMapper objectMapper;
+
+    private ConnectionPool connectionPool;
+    private Scheduler databaseScheduler;
+    private LoopResources loops;
+    private DisposableServer server;
+
+    public ReactiveReadServer(@Value("${spring.datasource.url}") String jdbcUrl,
+                              @Value("${spring.datasource.username:}") String username,
+                              @Value("${spring.datasource.password:}") String password,
+                              @Value("${taskify.reactive.port:8081}") int port,
+                              @Value("${taskify.reactive.pool-size:10}") int poolSize,
+                              JwtAuthenticator jwtAuthenticator,
+                              ObjectMapper objectMapper) {
+        if (!jdbcUrl.startsWith(JDBC_H2_PREFIX)) {
+            throw new IllegalStateException("The reactive read API needs an H2 database, not " + jdbcUrl);
+        }
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.port = port;
+        this.poolSize = poolSize;
+        this.jwtAuthenticator = jwtAuthenticator;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void start() {
+        H2ConnectionConfiguration configuration = H2ConnectionConfiguration.builder()
+            .url(jdbcUrl.substring(JDBC_H2_PREFIX.length()))
+            .username(username)
+            .password(password)
+            .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(new H2ConnectionFactory(configuration))
+            .maxSize(poolSize)
+            .maxIdleTime(Duration.ofMinutes(30))
+            .build());
+        DatabaseClient databaseClient = DatabaseClient.create(connectionPool);
+        // H2 blocks the subscribing thread; one thread per pooled connection keeps it off the event loops
+        databaseScheduler = Schedulers.newBoundedElastic(poolSize, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            "taskify-reactive-db");
+
+        RouterFunction<ServerResponse> routes = routes(new ReactiveReadHandler(databaseClient, databaseScheduler),
+            new ReactiveJwtFilter(jwtAuthenticator, databaseClient, databaseScheduler));
+        // Same ObjectMapper as the MVC controllers, so both stacks write identical JSON
+        HandlerStrategies strategies = HandlerStrategies.builder()
+            .codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(
+                new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)))
+            .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes, strategies);
+
+        loops = LoopResources.create("taskify-reactive");
+        server = HttpServer.create()
+            .port(port)
+            .runOn(loops)
+            .handle(new ReactorHttpHandlerAdapter(httpHandler))
+            .bindNow();
+        log.info("Reactive read API listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        server.disposeNow();
+        server = null;
+        loops.disposeLater().block(Duration.ofSeconds(5));
+        databaseScheduler.dispose();
+        connectionPool.dispose();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    private static RouterFunction<ServerResponse> routes(ReactiveReadHandler handler, ReactiveJwtFilter jwtFilter) {
+        // Export routes come before the {id} routes they would otherwise match
+        return RouterFunctions.route()
+            .GET("/api/tasks", handler::listTasks)
+            .GET("/api/tasks/export", handler::exportTasks)
+            .GET("/api/tasks/{id}", handler::getTask)
+            .GET("/api/appointments", handler::listAppointments)
+            .GET("/api/appointments/export", handler::exportAppointments)
+            .GET("/api/appointments/{id}", handler::getAppointment)
+            .filter(jwtFilter)
+            .build();
+    }
+
+    /**
+     * Port the server is bound to, which differs from taskify.reactive.port when that is 0.
+     */
+    public int port() {
+        if (server == null) {
+            throw new IllegalStateException("The reactive read API is not running");
+        }
+        return server.port();
+    }
+}
@@ -3,6 +3,7 @@ package com.taskify.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -36,4 +37,13 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return Optional containing the task if found and owned by user
      */
     Optional<Task> findByIdAndUser(Long id, User user);
+
+    /**
+     * Find the next tasks of a user in ID order, for keyset-paginated exports.
+     * @param userId the ID of the user
+     * @param afterId only tasks with a greater ID are returned
+     * @param pageable page size (the page number should stay 0)
+     * @return up to one page of tasks
+     */
+    List<Task> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Pageable pageable);
 }
@@ -26,4 +26,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if a user exists with this email
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Check if a user exists with the given email, whatever its case.
+     * @param email the email to check
+     * @return true if a user exists with this email in any case
+     */
+    boolean existsByEmailIgnoreCase(String email);
 }
@@ -0,0 +1,70 @@
+package com.taskify.security;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.taskify.model.User;
+import com.taskify.repository.UserRepository;
+
+/**
+ * Resolves the user a bearer token belongs to. Shared by {@link JwtFilter} for HTTP, the gRPC
+ * interceptor and the reactive read API, so all of them accept exactly the same tokens.
+ */
+@Component
+public class JwtAuthenticator {
+
+    private static final String BEARER = "Bearer ";
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * The token of an Authorization header value.
+     * @return null if the header is missing or not a bearer token
+     */
+    public static String bearerToken(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER)) {
+            return null;
+        }
+        return authorizationHeader.substring(BEARER.length());
+    }
+
+    /**
+     * The user a valid, unexpired token was issued to.
+     * @return empty for an invalid token or an unknown user
+     */
+    public Optional<User> authenticate(String token) {
+        String email = verifiedEmail(token);
+        if (email == null) {
+            return Optional.empty();
+        }
+        return user(email);
+    }
+
+    /**
+     * The user of an email returned by {@link #verifiedEmail}.
+     * @return empty if the user no longer exists
+     */
+    public Optional<User> user(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    /**
+     * The email a valid, unexpired token was issued to, for callers that look the user up themselves.
+     * @return null for an invalid or expired token
+     */
+    public String verifiedEmail(String token) {
+        try {
+            String email = jwtUtil.extractEmail(token);
+            return email != null && jwtUtil.validateToken(token, email) ? email : null;
+        } catch (Exception e) {
+            // Invalid token
+            return null;
+        }
+    }
+}
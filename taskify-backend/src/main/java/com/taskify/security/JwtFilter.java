@@ -1,7 +1,7 @@
 package com.taskify.security;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -11,8 +11,12 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.taskify.repository.UserRepository;
+import com.taskify.jdbc.QueryCounter;
+import com.taskify.model.User;
+import com.taskify.web.ServerTiming;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,61 +25,106 @@ import jakarta.servlet.http.HttpServletResponse;
 /**
  * JWT Authentication Filter.
  * Intercepts requests to validate JWT tokens and set authentication context.
+ * Its own duration is timed as taskify.security.jwt.filter, tagged by outcome; token checks and the
+ * user lookup are reported as the jwt and user Server-Timing phases.
  */
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
+    /**
+     * Request attribute holding the authenticated user's ID, for per-user accounting.
+     */
+    public static final String USER_ID_ATTRIBUTE = JwtFilter.class.getName() + ".userId";
+
+    @Autowired
+    private JwtAuthenticator jwtAuthenticator;
+
     @Autowired
-    private JwtUtil jwtUtil;
+    private MeterRegistry meterRegistry;
 
     @Autowired
-    private UserRepository userRepository;
+    private OpsUsers opsUsers;
+
+    // One timer per outcome, registered once the dependencies are injected
+    private Timer anonymousTimer;
+    private Timer authenticatedTimer;
+    private Timer rejectedTimer;
+
+    @Override
+    protected void initFilterBean() {
+        anonymousTimer = outcomeTimer("anonymous");
+        authenticatedTimer = outcomeTimer("authenticated");
+        rejectedTimer = outcomeTimer("rejected");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        final String authorizationHeader = request.getHeader("Authorization");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        sample.stop(authenticate(request));
 
-        String email = null;
-        String jwt = null;
+        filterChain.doFilter(request, response);
+    }
 
-        // Extract JWT from Authorization header
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            try {
-                email = jwtUtil.extractEmail(jwt);
-            } catch (Exception e) {
-                // Invalid token - continue without authentication
-            }
+    /**
+     * Authenticate the request from its bearer token, if any.
+     * @return the timer of the outcome: anonymous, authenticated or rejected
+     */
+    private Timer authenticate(HttpServletRequest request) {
+        String jwt = JwtAuthenticator.bearerToken(request.getHeader("Authorization"));
+        if (jwt == null) {
+            return anonymousTimer;
         }
 
         // Validate token and set authentication
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            final String userEmail = email;
-            final String token = jwt;
-            
-            userRepository.findByEmail(userEmail).ifPresent(user -> {
-                if (jwtUtil.validateToken(token, user.getEmail())) {
-                    UserDetails userDetails = org.springframework.security.core.userdetails.User
-                        .withUsername(user.getEmail())
-                        .password(user.getPassword())
-                        .authorities(Collections.emptyList())
-                        .build();
-                    
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            findUser(jwt).ifPresent(user -> {
+                UserDetails userDetails = org.springframework.security.core.userdetails.User
+                    .withUsername(user.getEmail())
+                    .password(user.getPassword())
+                    .authorities(opsUsers.authoritiesFor(user.getEmail()))
+                    .build();
+
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(
+                                userDetails,
+                                null,
+                                userDetails.getAuthorities()
+                        );
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+                request.setAttribute(USER_ID_ATTRIBUTE, user.getId());
             });
         }
 
-        filterChain.doFilter(request, response);
+        return SecurityContextHolder.getContext().getAuthentication() != null ? authenticatedTimer : rejectedTimer;
+    }
+
+    /**
+     * The user of a valid token, timing the token check and the lookup as separate phases.
+     * The lookup's statements are counted in the user phase only.
+     */
+    private Optional<User> findUser(String jwt) {
+        long start = System.nanoTime();
+        String email = jwtAuthenticator.verifiedEmail(jwt);
+        long verified = System.nanoTime();
+        ServerTiming.add(ServerTiming.Phase.JWT, verified - start);
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        long dbBefore = QueryCounter.totalNanos();
+        Optional<User> user = jwtAuthenticator.user(email);
+        ServerTiming.add(ServerTiming.Phase.USER, System.nanoTime() - verified, QueryCounter.totalNanos() - dbBefore);
+        return user;
+    }
+
+    private Timer outcomeTimer(String outcome) {
+        return Timer.builder("taskify.security.jwt.filter")
+            .description("Time spent authenticating the request from its JWT")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
     }
 }
@@ -0,0 +1,42 @@
+package com.taskify.security;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Users granted the OPS role, which opens the profiling actuator endpoints (JFR, slow requests).
+ * Configured as a comma-separated list of e-mails in taskify.ops.users; everyone else has no authority.
+ * Registration stores e-mails in lower case, so the list is lower-cased once and accounts are matched
+ * exactly: a case variant of an ops e-mail, e.g. one registered before normalization, is not ops.
+ */
+@Component
+public class OpsUsers {
+
+    public static final String ROLE = "OPS";
+
+    private static final List<GrantedAuthority> OPS_AUTHORITIES =
+        List.of(new SimpleGrantedAuthority("ROLE_" + ROLE));
+
+    private final Set<String> emails;
+
+    public OpsUsers(@Value("${taskify.ops.users:}") List<String> emails) {
+        this.emails = emails.stream()
+            .map(email -> email.trim().toLowerCase(Locale.ROOT))
+            .filter(email -> !email.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Authorities of the given user.
+     */
+    public List<GrantedAuthority> authoritiesFor(String email) {
+        return emails.contains(email) ? OPS_AUTHORITIES : List.of();
+    }
+}
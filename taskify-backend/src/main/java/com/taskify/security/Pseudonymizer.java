@@ -0,0 +1,50 @@
+package com.taskify.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Keyed pseudonyms (HMAC-SHA256) for user identifiers that leave the process, such as traffic captures
+ * and heavy-user reports. Whoever holds the key can recompute the pseudonym of a known user.
+ */
+public final class Pseudonymizer {
+
+    // Guards mac, which is not thread-safe
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Mac mac;
+
+    /**
+     * @param key HMAC key; when empty a random key is used and pseudonyms are only stable within this process
+     */
+    public Pseudonymizer(String key) throws GeneralSecurityException {
+        byte[] secret;
+        if (key.isEmpty()) {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        } else {
+            secret = key.getBytes(StandardCharsets.UTF_8);
+        }
+        mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+    }
+
+    /**
+     * Pseudonym of a value, never 0 so that 0 can stand for "no user".
+     */
+    public long pseudonym(String value) {
+        byte[] digest;
+        lock.lock();
+        try {
+            digest = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            lock.unlock();
+        }
+        return ByteBuffer.wrap(digest).getLong() | 1;
+    }
+}
@@ -0,0 +1,133 @@
+package com.taskify.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-user rate limiting of authenticated API requests, with separate token buckets for reads,
+ * writes and bulk (batch) requests. Runs right after {@link JwtFilter}, keyed by the user it authenticated.
+ * Every limited response carries RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset (seconds);
+ * rejected requests get a 429 with Retry-After. Metrics count throttled requests and users, never name them.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+        "{\"error\":\"Too many requests, retry later\"}".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Request classes with their own budget.
+     */
+    enum Budget {
+        READ, WRITE, BULK;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private final boolean enabled;
+    private final Map<Budget, TokenBucketStore> stores = new EnumMap<>(Budget.class);
+    private final Map<Budget, Counter> throttledCounters = new EnumMap<>(Budget.class);
+
+    public RateLimitFilter(@Value("${taskify.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${taskify.rate-limit.read.permits-per-second:50}") double readRate,
+                           @Value("${taskify.rate-limit.read.burst:100}") long readBurst,
+                           @Value("${taskify.rate-limit.write.permits-per-second:10}") double writeRate,
+                           @Value("${taskify.rate-limit.write.burst:20}") long writeBurst,
+                           @Value("${taskify.rate-limit.bulk.permits-per-second:1}") double bulkRate,
+                           @Value("${taskify.rate-limit.bulk.burst:5}") long bulkBurst,
+                           @Value("${taskify.rate-limit.max-users:100000}") int maxUsers,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        stores.put(Budget.READ, new TokenBucketStore(readRate, readBurst, maxUsers));
+        stores.put(Budget.WRITE, new TokenBucketStore(writeRate, writeBurst, maxUsers));
+        stores.put(Budget.BULK, new TokenBucketStore(bulkRate, bulkBurst, maxUsers));
+
+        stores.forEach((budget, store) -> {
+            throttledCounters.put(budget, Counter.builder("taskify.ratelimit.throttled")
+                .description("Requests rejected by the per-user rate limit")
+                .tag("budget", budget.tag)
+                .register(meterRegistry));
+            Gauge.builder("taskify.ratelimit.exhausted", store, TokenBucketStore::exhausted)
+                .description("Users whose rate limit bucket is currently empty")
+                .tag("budget", budget.tag)
+                .register(meterRegistry);
+            Gauge.builder("taskify.ratelimit.buckets", store, TokenBucketStore::size)
+                .description("Users with a partially used rate limit bucket")
+                .tag("budget", budget.tag)
+                .register(meterRegistry);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!(request.getAttribute(JwtFilter.USER_ID_ATTRIBUTE) instanceof Long userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Budget budget = budget(request);
+        TokenBucketStore.Decision decision = stores.get(budget).tryAcquire(userId);
+        response.setHeader(LIMIT_HEADER, Long.toString(decision.limit()));
+        response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+        response.setHeader(RESET_HEADER, Long.toString(seconds(decision.resetNanos())));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        throttledCounters.get(budget).increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds(decision.retryAfterNanos())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(TOO_MANY_REQUESTS_BODY.length);
+        response.getOutputStream().write(TOO_MANY_REQUESTS_BODY);
+    }
+
+    private static Budget budget(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/api/batch")) {
+            return Budget.BULK;
+        }
+        // GraphQL is POSTed but offers queries only
+        if (request.getRequestURI().startsWith("/api/graphql")) {
+            return Budget.READ;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> Budget.READ;
+            default -> Budget.WRITE;
+        };
+    }
+
+    private static long seconds(long nanos) {
+        return Math.max(0, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskify.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by user, stored as one theoretical arrival time per key (GCRA, the generic cell
+ * rate algorithm): a request is allowed when the bucket's arrival time, pushed one emission interval
+ * forward, stays within the burst allowance of now. Each decision is a single compare-and-set, so
+ * the store takes no lock.
+ * A bucket whose arrival time has passed is full and equivalent to no entry; such entries are swept
+ * when the map grows past its bound. If it is still over the bound, arbitrary entries are dropped,
+ * which only ever gives users a fresh bucket.
+ */
+public final class TokenBucketStore {
+
+    /**
+     * @param remaining requests still allowed in the current burst
+     * @param retryAfterNanos when rejected, time until the next request is allowed
+     * @param resetNanos time until the bucket is full again
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long retryAfterNanos, long resetNanos) {
+    }
+
+    private final long burst;
+    private final long emissionNanos;
+    private final long burstNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, AtomicLong> arrivals = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    /**
+     * @param permitsPerSecond sustained rate
+     * @param burst requests allowed at once from a full bucket
+     * @param maxEntries bound on tracked keys
+     */
+    public TokenBucketStore(double permitsPerSecond, long burst, int maxEntries) {
+        this.burst = burst;
+        this.emissionNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstNanos = emissionNanos * burst;
+        this.maxEntries = maxEntries;
+    }
+
+    public Decision tryAcquire(long key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    Decision tryAcquire(long key, long now) {
+        AtomicLong arrival = arrivals.get(key);
+        if (arrival == null) {
+            arrival = arrivals.computeIfAbsent(key, ignored -> new AtomicLong(now));
+            if (arrivals.size() > maxEntries) {
+                sweep(now);
+            }
+        }
+        while (true) {
+            long tat = arrival.get();
+            long newTat = Math.max(tat, now) + emissionNanos;
+            long allowAt = newTat - burstNanos;
+            if (allowAt > now) {
+                return new Decision(false, burst, 0, allowAt - now, tat - now);
+            }
+            if (arrival.compareAndSet(tat, newTat)) {
+                return new Decision(true, burst, (now + burstNanos - newTat) / emissionNanos, 0, newTat - now);
+            }
+        }
+    }
+
+    /**
+     * Keys whose bucket is currently empty.
+     */
+    public int exhausted() {
+        long threshold = System.nanoTime() + burstNanos - emissionNanos;
+        int count = 0;
+        for (AtomicLong arrival : arrivals.values()) {
+            if (arrival.get() > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return arrivals.size();
+    }
+
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            arrivals.values().removeIf(arrival -> arrival.get() <= now);
+            var iterator = arrivals.keySet().iterator();
+            while (arrivals.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
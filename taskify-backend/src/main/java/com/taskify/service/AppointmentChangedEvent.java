@@ -0,0 +1,8 @@
+package com.taskify.service;
+
+/**
+ * An appointment was created, updated or deleted. Published by {@link AppointmentService}; listeners
+ * that should only see committed changes use {@code @TransactionalEventListener}.
+ */
+public record AppointmentChangedEvent(long userId, long appointmentId) {
+}
@@ -2,23 +2,33 @@ package com.taskify.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.taskify.exception.NotFoundException;
 import com.taskify.model.Appointment;
 import com.taskify.model.User;
 import com.taskify.repository.AppointmentRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class for Appointment-related business logic.
+ * Every write publishes an {@link AppointmentChangedEvent}.
  */
 @Service
+@Timed("taskify.service")
 public class AppointmentService {
 
     @Autowired
     private AppointmentRepository appointmentRepository;
 
+    @Autowired
+    private ApplicationEventPublisher events;
+
     /**
      * Get all appointments for a user.
      * @param user the owner of the appointments
@@ -28,16 +38,26 @@ public class AppointmentService {
         return appointmentRepository.findByUser(user);
     }
 
+    /**
+     * Find an appointment by ID, verifying ownership, without raising on a miss.
+     * @param id appointment ID
+     * @param user the owner
+     * @return Optional containing the appointment if found and owned by user
+     */
+    public Optional<Appointment> findAppointmentById(Long id, User user) {
+        return appointmentRepository.findByIdAndUser(id, user);
+    }
+
     /**
      * Get an appointment by ID, verifying ownership.
      * @param id appointment ID
      * @param user the owner
      * @return the appointment
-     * @throws RuntimeException if appointment not found or not owned by user
+     * @throws NotFoundException if appointment not found or not owned by user
      */
     public Appointment getAppointmentById(Long id, User user) {
         return appointmentRepository.findByIdAndUser(id, user)
-            .orElseThrow(() -> new RuntimeException("Appointment not found or access denied"));
+            .orElseThrow(() -> new NotFoundException("Appointment not found or access denied"));
     }
 
     /**
@@ -53,7 +73,9 @@ public class AppointmentService {
         appointment.setDate(date);
         appointment.setUser(user);
         
-        return appointmentRepository.save(appointment);
+        Appointment saved = appointmentRepository.save(appointment);
+        events.publishEvent(new AppointmentChangedEvent(user.getId(), saved.getId()));
+        return saved;
     }
 
     /**
@@ -74,7 +96,9 @@ public class AppointmentService {
             appointment.setDate(date);
         }
         
-        return appointmentRepository.save(appointment);
+        Appointment saved = appointmentRepository.save(appointment);
+        events.publishEvent(new AppointmentChangedEvent(user.getId(), saved.getId()));
+        return saved;
     }
 
     /**
@@ -85,5 +109,6 @@ public class AppointmentService {
     public void deleteAppointment(Long id, User user) {
         Appointment appointment = getAppointmentById(id, user);
         appointmentRepository.delete(appointment);
+        events.publishEvent(new AppointmentChangedEvent(user.getId(), appointment.getId()));
     }
 }
@@ -0,0 +1,95 @@
+package com.taskify.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service class for running several write operations in a single transaction.
+ */
+@Service
+public class BatchService {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Run operations in order inside one transaction.
+     * In atomic mode the first failure rolls back the whole batch and skips the remaining operations.
+     * In best-effort mode failed operations are reported and the others are committed; a failure
+     * raised by the database itself still marks the transaction rollback-only and fails the batch.
+     * @param operations the operations, in execution order
+     * @param atomic true for all-or-nothing, false for best-effort
+     * @return the batch outcome with one entry per operation
+     */
+    public BatchOutcome execute(List<Supplier<Object>> operations, boolean atomic) {
+        List<OperationOutcome> outcomes = new ArrayList<>(operations.size());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        boolean committed;
+        try {
+            committed = Boolean.TRUE.equals(transaction.execute(status -> {
+                for (Supplier<Object> operation : operations) {
+                    if (atomic && status.isRollbackOnly()) {
+                        outcomes.add(OperationOutcome.skipped());
+                        continue;
+                    }
+                    try {
+                        outcomes.add(OperationOutcome.success(operation.get()));
+                    } catch (RuntimeException e) {
+                        outcomes.add(OperationOutcome.failure(e));
+                        if (atomic) {
+                            status.setRollbackOnly();
+                        }
+                    }
+                }
+                return !status.isRollbackOnly();
+            }));
+        } catch (TransactionException e) {
+            committed = false;
+        }
+
+        if (!committed) {
+            outcomes.replaceAll(outcome -> outcome.isSuccess() ? OperationOutcome.skipped() : outcome);
+            while (outcomes.size() < operations.size()) {
+                outcomes.add(OperationOutcome.skipped());
+            }
+        }
+        return new BatchOutcome(committed, outcomes);
+    }
+
+    /**
+     * Result of a batch: whether it committed and the outcome of each operation.
+     */
+    public record BatchOutcome(boolean committed, List<OperationOutcome> outcomes) {
+    }
+
+    /**
+     * Outcome of one operation: its return value, the failure it raised, or neither if it was
+     * skipped or rolled back.
+     */
+    public record OperationOutcome(Object value, RuntimeException error, boolean rolledBack) {
+
+        static OperationOutcome success(Object value) {
+            return new OperationOutcome(value, null, false);
+        }
+
+        static OperationOutcome failure(RuntimeException error) {
+            return new OperationOutcome(null, error, false);
+        }
+
+        static OperationOutcome skipped() {
+            return new OperationOutcome(null, null, true);
+        }
+
+        public boolean isSuccess() {
+            return error == null && !rolledBack;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.taskify.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import com.taskify.model.TaskStatus;
+import com.taskify.service.TaskWriteBehindService.PendingTask;
+
+/**
+ * Append-only local log of accepted but not yet persisted tasks.
+ * Each record is [length][crc32][payload]; recovery stops at the first torn or corrupt record.
+ * Task records carry a sequence number; once tasks are persisted, a settled record naming their
+ * sequence numbers is appended, so recovery only returns tasks that were never settled. The log is
+ * emptied when nothing is left unsettled, and otherwise rewritten with only the unsettled records
+ * once settled ones take up most of it, so it stays bounded under steady traffic.
+ * Callers serialize {@link #append}, {@link #settle} and {@link #recover}; {@link #sync} is called
+ * outside that lock so that writers waiting for the disk share one force (group commit).
+ */
+class TaskAppendLog implements AutoCloseable {
+
+    /**
+     * A task record that has not been settled yet.
+     */
+    record Entry(long sequence, PendingTask task) {
+    }
+
+    private static final int HEADER_BYTES = 8;
+    private static final byte TASK = 1;
+    private static final byte SETTLED = 2;
+
+    // Rewrite the log once it is at least this large and mostly settled records
+    private static final long DEFAULT_COMPACT_BYTES = 1 << 20;
+
+    private final Path path;
+    private final boolean fsync;
+    private final long compactBytes;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+    private final CRC32 crc = new CRC32();
+    private FileChannel channel;
+
+    // Unsettled task records in append order, with where they are in the file
+    private final Map<Long, Location> unsettled = new LinkedHashMap<>();
+    private long unsettledBytes;
+
+    // Group commit: records appended so far, and how many of them a force has covered
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private volatile long appended;
+    private long synced;
+
+    TaskAppendLog(Path path, boolean fsync) throws IOException {
+        this(path, fsync, DEFAULT_COMPACT_BYTES);
+    }
+
+    TaskAppendLog(Path path, boolean fsync, long compactBytes) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.path = path;
+        this.fsync = fsync;
+        this.compactBytes = compactBytes;
+        this.channel = open(path);
+    }
+
+    /**
+     * Read every intact record, drop anything after the first damaged one and rewrite the log with
+     * only the unsettled tasks.
+     * @return the unsettled tasks, in append order
+     */
+    List<Entry> recover() throws IOException {
+        Map<Long, PendingTask> tasks = new LinkedHashMap<>();
+        long position = 0;
+        long size = channel.size();
+        long maxSequence = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length <= 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + HEADER_BYTES);
+            crc.reset();
+            crc.update(payload.array(), 0, length);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload.array()));
+            if (in.readByte() == TASK) {
+                long sequence = in.readLong();
+                tasks.put(sequence, decode(in));
+                unsettled.put(sequence, new Location(position, HEADER_BYTES + length));
+                unsettledBytes += HEADER_BYTES + length;
+                maxSequence = Math.max(maxSequence, sequence);
+            } else {
+                for (int count = in.readInt(); count > 0; count--) {
+                    long sequence = in.readLong();
+                    tasks.remove(sequence);
+                    Location location = unsettled.remove(sequence);
+                    if (location != null) {
+                        unsettledBytes -= location.length();
+                    }
+                }
+            }
+            position += HEADER_BYTES + length;
+        }
+
+        appended = maxSequence;
+        synced = maxSequence;
+        channel.truncate(position);
+        channel.position(position);
+        if (unsettled.isEmpty()) {
+            truncate();
+        } else if (unsettledBytes < position) {
+            compact();
+        }
+
+        List<Entry> entries = new ArrayList<>(tasks.size());
+        tasks.forEach((sequence, task) -> entries.add(new Entry(sequence, task)));
+        return entries;
+    }
+
+    /**
+     * Append one task, without forcing it to disk.
+     * @return the record's sequence number, to pass to {@link #sync} and {@link #settle}
+     */
+    long append(PendingTask task) throws IOException {
+        long sequence = appended + 1;
+        DataOutputStream out = startRecord(TASK);
+        out.writeLong(sequence);
+        out.writeLong(task.id());
+        out.writeLong(task.userId());
+        out.writeUTF(task.title());
+        out.writeBoolean(task.description() != null);
+        if (task.description() != null) {
+            out.writeUTF(task.description());
+        }
+        out.writeUTF(task.status().name());
+        long position = channel.position();
+        int length = writeRecord(out);
+        unsettled.put(sequence, new Location(position, length));
+        unsettledBytes += length;
+        appended = sequence;
+        return sequence;
+    }
+
+    /**
+     * If configured, wait until the record with this sequence number is on disk. Callers queue on one
+     * lock; each force covers every record appended before it started, so the callers behind it
+     * return without forcing again.
+     */
+    void sync(long sequence) throws IOException {
+        if (!fsync) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (synced >= sequence) {
+                return;
+            }
+            long covered = appended;
+            channel.force(false);
+            synced = covered;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Mark tasks as persisted or rejected for good, so recovery no longer replays them; then empty or
+     * compact the log if that is now worthwhile. Forced to disk when fsync is on, since a replayed
+     * task would come back after its owner deleted it.
+     */
+    void settle(Collection<Long> sequences) throws IOException {
+        if (sequences.isEmpty()) {
+            return;
+        }
+        for (Long sequence : sequences) {
+            Location location = unsettled.remove(sequence);
+            if (location != null) {
+                unsettledBytes -= location.length();
+            }
+        }
+        if (unsettled.isEmpty()) {
+            truncate();
+            return;
+        }
+        long size = channel.position();
+        if (size >= compactBytes && unsettledBytes * 2 <= size) {
+            compact();
+            return;
+        }
+        DataOutputStream out = startRecord(SETTLED);
+        out.writeInt(sequences.size());
+        for (Long sequence : sequences) {
+            out.writeLong(sequence);
+        }
+        writeRecord(out);
+        if (fsync) {
+            syncLock.lock();
+            try {
+                channel.force(false);
+                synced = appended;
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Size of the log file, in bytes.
+     */
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private DataOutputStream startRecord(byte type) throws IOException {
+        buffer.reset();
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeByte(type);
+        return out;
+    }
+
+    /**
+     * Frame the buffered payload and write it at the end of the log.
+     * @return the record's length, header included
+     */
+    private int writeRecord(DataOutputStream out) throws IOException {
+        out.flush();
+        byte[] payload = buffer.toByteArray();
+        crc.reset();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        record.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        return HEADER_BYTES + payload.length;
+    }
+
+    /**
+     * Discard all records once every logged task is settled.
+     */
+    private void truncate() throws IOException {
+        syncLock.lock();
+        try {
+            channel.truncate(0);
+            channel.position(0);
+            if (fsync) {
+                channel.force(false);
+            }
+            synced = appended;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Copy the unsettled records to a new file and atomically replace the log with it.
+     */
+    private void compact() throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        Map<Long, Location> moved = new LinkedHashMap<>();
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long position = 0;
+            for (Map.Entry<Long, Location> entry : unsettled.entrySet()) {
+                Location location = entry.getValue();
+                ByteBuffer record = ByteBuffer.allocate(location.length());
+                readFully(channel, record, location.position());
+                record.flip();
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+                moved.put(entry.getKey(), new Location(position, location.length()));
+                position += location.length();
+            }
+            if (fsync) {
+                out.force(false);
+            }
+        }
+
+        syncLock.lock();
+        try {
+            channel.close();
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = open(path);
+            channel.position(channel.size());
+            synced = appended;
+        } finally {
+            syncLock.unlock();
+        }
+        unsettled.clear();
+        unsettled.putAll(moved);
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position + target.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of write-behind log");
+            }
+        }
+    }
+
+    private static PendingTask decode(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        long userId = in.readLong();
+        String title = in.readUTF();
+        String description = in.readBoolean() ? in.readUTF() : null;
+        TaskStatus status = TaskStatus.valueOf(in.readUTF());
+        return new PendingTask(id, title, description, status, userId);
+    }
+
+    private record Location(long position, int length) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskify.service;
+
+import com.taskify.model.Task;
+import com.taskify.model.TaskStatus;
+import com.taskify.service.TaskWriteBehindService.PendingTask;
+
+/**
+ * A task was created, updated or deleted. Published by the services that write tasks; listeners that
+ * should only see committed changes use {@code @TransactionalEventListener}.
+ * @param task state after the change, or before it for a deletion
+ */
+public record TaskChangedEvent(Kind kind, long userId, Snapshot task) {
+
+    public enum Kind {
+        CREATED, UPDATED, DELETED
+    }
+
+    /**
+     * Task fields, copied so that listeners never touch the entity.
+     */
+    public record Snapshot(long id, String title, String description, TaskStatus status) {
+    }
+
+    static TaskChangedEvent of(Kind kind, Task task) {
+        return new TaskChangedEvent(kind, task.getUser().getId(),
+            new Snapshot(task.getId(), task.getTitle(), task.getDescription(), task.getStatus()));
+    }
+
+    static TaskChangedEvent created(PendingTask task) {
+        return new TaskChangedEvent(Kind.CREATED, task.userId(),
+            new Snapshot(task.id(), task.title(), task.description(), task.status()));
+    }
+}
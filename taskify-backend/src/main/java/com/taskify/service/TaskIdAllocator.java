@@ -0,0 +1,47 @@
+package com.taskify.service;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.taskify.model.Task;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hands out task IDs from the same Hibernate generator (and in-memory pool) that
+ * {@code TaskRepository.save} uses, so pre-assigned IDs never collide with regular inserts.
+ */
+@Component
+public class TaskIdAllocator {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private volatile IdentifierGenerator generator;
+
+    /**
+     * Allocate the next task ID. Usually served from memory; hits the sequence once per pool.
+     * @return a task ID that no other insert will use
+     */
+    public long nextId() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return (Long) generator(sessionFactory).generate((SharedSessionContractImplementor) session, null);
+        }
+    }
+
+    private IdentifierGenerator generator(SessionFactoryImplementor sessionFactory) {
+        IdentifierGenerator current = generator;
+        if (current == null) {
+            current = (IdentifierGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Task.class)
+                .getGenerator();
+            generator = current;
+        }
+        return current;
+    }
+}
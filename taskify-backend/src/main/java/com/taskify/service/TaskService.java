@@ -1,24 +1,34 @@
 package com.taskify.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.taskify.exception.NotFoundException;
 import com.taskify.model.Task;
 import com.taskify.model.TaskStatus;
 import com.taskify.model.User;
 import com.taskify.repository.TaskRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class for Task-related business logic.
+ * Every write publishes a {@link TaskChangedEvent}.
  */
 @Service
+@Timed("taskify.service")
 public class TaskService {
 
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private ApplicationEventPublisher events;
+
     /**
      * Get all tasks for a user.
      * @param user the owner of the tasks
@@ -28,16 +38,26 @@ public class TaskService {
         return taskRepository.findByUser(user);
     }
 
+    /**
+     * Find a task by ID, verifying ownership, without raising on a miss.
+     * @param id task ID
+     * @param user the owner
+     * @return Optional containing the task if found and owned by user
+     */
+    public Optional<Task> findTaskById(Long id, User user) {
+        return taskRepository.findByIdAndUser(id, user);
+    }
+
     /**
      * Get a task by ID, verifying ownership.
      * @param id task ID
      * @param user the owner
      * @return the task
-     * @throws RuntimeException if task not found or not owned by user
+     * @throws NotFoundException if task not found or not owned by user
      */
     public Task getTaskById(Long id, User user) {
         return taskRepository.findByIdAndUser(id, user)
-            .orElseThrow(() -> new RuntimeException("Task not found or access denied"));
+            .orElseThrow(() -> new NotFoundException("Task not found or access denied"));
     }
 
     /**
@@ -55,7 +75,9 @@ public class TaskService {
         task.setStatus(status != null ? status : TaskStatus.TODO);
         task.setUser(user);
         
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        events.publishEvent(TaskChangedEvent.of(TaskChangedEvent.Kind.CREATED, saved));
+        return saved;
     }
 
     /**
@@ -80,7 +102,9 @@ public class TaskService {
             task.setStatus(status);
         }
         
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        events.publishEvent(TaskChangedEvent.of(TaskChangedEvent.Kind.UPDATED, saved));
+        return saved;
     }
 
     /**
@@ -91,5 +115,6 @@ public class TaskService {
     public void deleteTask(Long id, User user) {
         Task task = getTaskById(id, user);
         taskRepository.delete(task);
+        events.publishEvent(TaskChangedEvent.of(TaskChangedEvent.Kind.DELETED, task));
     }
 }
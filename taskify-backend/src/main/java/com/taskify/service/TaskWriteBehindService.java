@@ -0,0 +1,444 @@
+package com.taskify.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.taskify.exception.InvalidRequestException;
+import com.taskify.model.Task;
+import com.taskify.model.TaskStatus;
+import com.taskify.model.User;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Service class for write-behind task creation.
+ * Accepted tasks get their ID immediately, are appended to a local log and queued;
+ * a single writer thread persists them with multi-row JDBC batches.
+ * Tasks that fail on a transient database error are retried until they are stored, and a task leaves
+ * the log only once it is settled, so an accepted task survives outages and restarts; settled tasks
+ * are never replayed, so a restart cannot bring back a task deleted or edited since it was stored.
+ * Stopping the application context drains the queue before the DataSource closes.
+ */
+@Service
+public class TaskWriteBehindService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBehindService.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO tasks (id, title, description, status, user_id) VALUES (?, ?, ?, ?, ?)";
+
+    // Used for retries and replays, whose rows may already have been written: inserts only missing rows,
+    // so a row edited since it was first written is left alone
+    private static final String INSERT_IF_ABSENT_SQL =
+        "INSERT INTO tasks (id, title, description, status, user_id) SELECT ?1, ?2, ?3, ?4, ?5 "
+            + "WHERE NOT EXISTS (SELECT 1 FROM tasks WHERE id = ?1)";
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    // Backoff between retries of transiently failed tasks
+    private static final long MIN_RETRY_DELAY_MILLIS = 100;
+    private static final long MAX_RETRY_DELAY_MILLIS = 5000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskIdAllocator taskIdAllocator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Value("${taskify.tasks.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${taskify.tasks.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${taskify.tasks.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${taskify.tasks.write-behind.flush-interval:5ms}")
+    private Duration flushInterval;
+
+    @Value("${taskify.tasks.write-behind.log-path:data/task-write-behind.log}")
+    private Path logPath;
+
+    @Value("${taskify.tasks.write-behind.fsync:true}")
+    private boolean fsync;
+
+    // Guards appendLog, sequences and the running flag transitions
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private BlockingQueue<PendingTask> queue;
+    private TaskAppendLog appendLog;
+    // Log sequence number of each unsettled task, by task ID
+    private final Map<Long, Long> sequences = new HashMap<>();
+    // Transiently failed tasks, retried as inserts of missing rows; writer thread only
+    private final List<PendingTask> retries = new ArrayList<>();
+    private volatile boolean running;
+    private Thread writer;
+
+    private Counter acceptedCounter;
+    private Counter rejectedCounter;
+    private Counter persistedCounter;
+    private Counter droppedCounter;
+    private Timer flushTimer;
+
+    /**
+     * Whether write-behind creation is currently accepting tasks.
+     */
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    /**
+     * Accept a task for asynchronous persistence.
+     * Returns once the task is in the local log (on disk when fsync is on) and the queue.
+     * @param title task title
+     * @param description task description
+     * @param status task status, defaults to TODO
+     * @param user task owner
+     * @return the accepted task, with its final ID
+     * @throws QueueFullException if the queue is at capacity
+     * @throws InvalidRequestException if the title or description is longer than the tasks table allows
+     */
+    public PendingTask accept(String title, String description, TaskStatus status, User user) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Write-behind task creation is not enabled");
+        }
+        // Rejected here rather than by the insert, which runs after the client got its 202
+        if (title.length() > Task.TITLE_MAX_LENGTH
+                || (description != null && description.length() > Task.DESCRIPTION_MAX_LENGTH)) {
+            throw new InvalidRequestException("Title or description too long");
+        }
+        PendingTask task = new PendingTask(taskIdAllocator.nextId(), title, description,
+            status != null ? status : TaskStatus.TODO, user.getId());
+
+        long sequence;
+        lock.lock();
+        try {
+            if (!running || queue.remainingCapacity() == 0) {
+                rejectedCounter.increment();
+                throw new QueueFullException();
+            }
+            sequence = appendLog.append(task);
+            sequences.put(task.id(), sequence);
+            queue.add(task);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not log task", e);
+        } finally {
+            lock.unlock();
+        }
+        // Outside the lock, so concurrent writers share one fsync
+        try {
+            appendLog.sync(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not log task", e);
+        }
+        acceptedCounter.increment();
+        return task;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        registerMeters();
+        try {
+            appendLog = new TaskAppendLog(logPath, fsync);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open write-behind log " + logPath, e);
+        }
+
+        running = true;
+        writer = new Thread(this::drainLoop, "task-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Write-behind task creation enabled (capacity={}, batchSize={}, flushInterval={}, log={})",
+            queueCapacity, batchSize, flushInterval, logPath.toAbsolutePath());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // The writer has exited or is stuck on the database; either way the log still holds these tasks
+        int unflushed = queue.size() + (writer.isAlive() ? 0 : retries.size());
+        if (unflushed > 0) {
+            log.warn("{} write-behind tasks not flushed on shutdown; they will be replayed from {}",
+                unflushed, logPath);
+        }
+        try {
+            appendLog.close();
+        } catch (IOException e) {
+            log.warn("Could not close write-behind log", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Start before and stop after the web server, so the queue is drained once requests have stopped.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void registerMeters() {
+        acceptedCounter = writeBehindCounter("accepted");
+        rejectedCounter = writeBehindCounter("rejected");
+        persistedCounter = writeBehindCounter("persisted");
+        droppedCounter = writeBehindCounter("dropped");
+        flushTimer = Timer.builder("taskify.tasks.writebehind.flush")
+            .description("Time to persist one write-behind batch")
+            .register(meterRegistry);
+        Gauge.builder("taskify.tasks.writebehind.queue", queue, BlockingQueue::size)
+            .description("Tasks accepted but not yet persisted")
+            .register(meterRegistry);
+    }
+
+    private Counter writeBehindCounter(String outcome) {
+        return Counter.builder("taskify.tasks.writebehind")
+            .description("Write-behind tasks by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private void recover() throws IOException {
+        List<TaskAppendLog.Entry> entries = appendLog.recover();
+        if (entries.isEmpty()) {
+            return;
+        }
+        log.info("Replaying {} unsettled write-behind tasks from {}", entries.size(), logPath);
+        // The records stay in the log until settled; failures are retried by the writer
+        List<PendingTask> recovered = new ArrayList<>(entries.size());
+        for (TaskAppendLog.Entry entry : entries) {
+            sequences.put(entry.task().id(), entry.sequence());
+            recovered.add(entry.task());
+        }
+        for (int from = 0; from < recovered.size(); from += batchSize) {
+            flush(recovered.subList(from, Math.min(from + batchSize, recovered.size())), INSERT_IF_ABSENT_SQL);
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingTask> batch = new ArrayList<>(batchSize);
+        long intervalNanos = flushInterval.toNanos();
+        long retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+        long nextRetry = System.nanoTime();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                if (!retries.isEmpty() && System.nanoTime() - nextRetry >= 0) {
+                    int failed = retry();
+                    retryDelayMillis = failed == 0 ? MIN_RETRY_DELAY_MILLIS
+                        : Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+                    nextRetry = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryDelayMillis);
+                }
+                PendingTask first = queue.poll(intervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + intervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingTask next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch, INSERT_SQL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Retry the transiently failed tasks once.
+     * @return how many failed again
+     */
+    private int retry() {
+        List<PendingTask> pending = new ArrayList<>(retries);
+        retries.clear();
+        // Some may have been inserted before the failure; inserting only missing rows makes the retry idempotent
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            flush(pending.subList(from, Math.min(from + batchSize, pending.size())), INSERT_IF_ABSENT_SQL);
+        }
+        return retries.size();
+    }
+
+    /**
+     * Persist a batch, keep the tasks that failed transiently for a retry and settle the others.
+     */
+    private void flush(List<PendingTask> batch, String sql) {
+        List<PendingTask> failed = new ArrayList<>();
+        try {
+            flushTimer.record(() -> persist(batch, sql, failed));
+        } catch (RuntimeException e) {
+            // Which rows made it is unknown: retry them all
+            log.error("Write-behind flush of {} tasks failed, will retry", batch.size(), e);
+            failed.clear();
+            failed.addAll(batch);
+        } finally {
+            settle(batch, failed);
+        }
+        retries.addAll(failed);
+    }
+
+    /**
+     * Record in the log that the tasks of a batch, except the failed ones, no longer need replaying.
+     */
+    private void settle(List<PendingTask> batch, List<PendingTask> failed) {
+        lock.lock();
+        try {
+            List<Long> settled = new ArrayList<>(batch.size() - failed.size());
+            for (PendingTask task : batch) {
+                if (!failed.contains(task)) {
+                    Long sequence = sequences.remove(task.id());
+                    if (sequence != null) {
+                        settled.add(sequence);
+                    }
+                }
+            }
+            appendLog.settle(settled);
+        } catch (IOException e) {
+            // The tasks stay unsettled in the log and are skipped by the insert when replayed
+            log.warn("Could not record settled write-behind tasks", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void persist(List<PendingTask> batch, String sql, List<PendingTask> failed) {
+        try {
+            jdbcTemplate.batchUpdate(sql, batch, batch.size(), (statement, task) -> {
+                statement.setLong(1, task.id());
+                statement.setString(2, task.title());
+                statement.setString(3, task.description());
+                statement.setString(4, task.status().name());
+                statement.setLong(5, task.userId());
+            });
+            persistedCounter.increment(batch.size());
+            batch.forEach(task -> events.publishEvent(TaskChangedEvent.created(task)));
+        } catch (DataAccessException e) {
+            log.warn("Write-behind batch of {} failed, retrying row by row: {}", batch.size(), e.getMessage());
+            for (PendingTask task : batch) {
+                if (!persistOne(task, sql)) {
+                    failed.add(task);
+                }
+            }
+        }
+    }
+
+    /**
+     * Insert one task, retrying transient errors a few times.
+     * @return true once the task is settled: stored, already stored, or rejected for good by a constraint
+     */
+    private boolean persistOne(PendingTask task, String sql) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.update(sql, task.id(), task.title(), task.description(), task.status().name(),
+                    task.userId());
+                persistedCounter.increment();
+                events.publishEvent(TaskChangedEvent.created(task));
+                return true;
+            } catch (DuplicateKeyException e) {
+                // Already inserted, by a batch that failed on a later row after committing this one
+                persistedCounter.increment();
+                events.publishEvent(TaskChangedEvent.created(task));
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                // E.g. the owner was deleted meanwhile; retrying cannot succeed
+                droppedCounter.increment();
+                log.warn("Dropping write-behind task {} for user {}: {}", task.id(), task.userId(), e.getMessage());
+                return true;
+            } catch (DataAccessException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.warn("Write-behind task {} for user {} failed {} times, will retry: {}",
+                        task.id(), task.userId(), attempt, e.getMessage());
+                    return false;
+                }
+                try {
+                    Thread.sleep(100L * attempt);
+                } catch (InterruptedException interrupted) {
+                    // Left in the log; the writer exits on its next poll
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * A task accepted for write-behind persistence.
+     */
+    public record PendingTask(long id, String title, String description, TaskStatus status, long userId) {
+    }
+
+    /**
+     * Raised when the write-behind queue is full; clients should retry later.
+     * Stackless: under overload it is raised for every rejected request.
+     */
+    public static class QueueFullException extends RuntimeException {
+        public QueueFullException() {
+            super("Task queue is full, retry later", null, false, false);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskify.service;
 
+import java.util.Locale;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,10 +10,13 @@ import org.springframework.stereotype.Service;
 import com.taskify.model.User;
 import com.taskify.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class for User-related business logic.
  */
 @Service
+@Timed("taskify.service")
 public class UserService {
 
     @Autowired
@@ -23,18 +27,20 @@ public class UserService {
 
     /**
      * Register a new user with encrypted password.
+     * The email is stored normalized, and must not exist in any case: authorities are granted by email.
      * @param email user's email
      * @param password user's plain text password
      * @return the created user
      * @throws RuntimeException if email already exists
      */
     public User register(String email, String password) {
-        if (userRepository.existsByEmail(email)) {
+        String normalized = normalize(email);
+        if (userRepository.existsByEmailIgnoreCase(normalized)) {
             throw new RuntimeException("Email already exists");
         }
 
         User user = new User();
-        user.setEmail(email);
+        user.setEmail(normalized);
         user.setPassword(passwordEncoder.encode(password));
         
         return userRepository.save(user);
@@ -57,7 +63,10 @@ public class UserService {
      * @throws RuntimeException if credentials are invalid
      */
     public User authenticate(String email, String password) {
-        User user = userRepository.findByEmail(email)
+        String normalized = normalize(email);
+        // Accounts registered before emails were normalized keep their exact spelling
+        User user = userRepository.findByEmail(normalized)
+            .or(() -> normalized.equals(email) ? Optional.empty() : userRepository.findByEmail(email))
             .orElseThrow(() -> new RuntimeException("Invalid email or password"));
 
         if (!passwordEncoder.matches(password, user.getPassword())) {
@@ -66,4 +75,11 @@ public class UserService {
 
         return user;
     }
+
+    /**
+     * Emails are compared case-insensitively: stored trimmed and in lower case.
+     */
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
 }
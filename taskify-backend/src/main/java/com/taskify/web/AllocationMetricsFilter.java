@@ -0,0 +1,158 @@
+package com.taskify.web;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.sun.management.ThreadMXBean;
+import com.taskify.jdbc.QueryCounter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the heap bytes each API request allocates on its thread, per route, as taskify.http.allocated,
+ * and per row read from the database as taskify.http.allocated.per.row.
+ * Reads the HotSpot per-thread allocation counter at request start and end, which costs a few tens
+ * of nanoseconds. Work handed to other threads, e.g. a coalesced read served by another request,
+ * is not counted.
+ * Platform threads only: a virtual thread has no allocation counter of its own and moves between
+ * carriers, so requests run on virtual threads (spring.threads.virtual.enabled on Java 21) are not recorded.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.allocation-metrics.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AllocationMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AllocationMetricsFilter.class);
+
+    // Thread.isVirtual(), looked up at runtime so the Java 17 build still compiles; null before Java 21
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+
+    private final AtomicBoolean virtualThreadsLogged = new AtomicBoolean();
+    // Registered once per route rather than looked up by a new builder on every request
+    private final ConcurrentMap<Route, RouteMeters> routes = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadMXBean threads;
+
+    public AllocationMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.threads = allocationCounter();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return threads == null || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isVirtual(Thread.currentThread())) {
+            if (virtualThreadsLogged.compareAndSet(false, true)) {
+                log.info("Requests run on virtual threads; taskify.http.allocated is not recorded");
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean counting = QueryCounter.begin();
+        long start = threads.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocated = threads.getCurrentThreadAllocatedBytes() - start;
+            long rows = QueryCounter.rows();
+            if (counting) {
+                QueryCounter.end();
+            }
+            Object template = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            RouteMeters meters = meters(new Route(request.getMethod(),
+                template != null ? template.toString() : "UNKNOWN"));
+            meters.allocated.record(allocated);
+            if (rows > 0) {
+                meters.allocatedPerRow.record((double) allocated / rows);
+            }
+        }
+    }
+
+    private RouteMeters meters(Route route) {
+        RouteMeters meters = routes.get(route);
+        return meters != null ? meters : routes.computeIfAbsent(route, RouteMeters::new);
+    }
+
+    private record Route(String method, String uri) {
+    }
+
+    private final class RouteMeters {
+        final DistributionSummary allocated;
+        final DistributionSummary allocatedPerRow;
+
+        RouteMeters(Route route) {
+            this.allocated = DistributionSummary.builder("taskify.http.allocated")
+                .description("Heap bytes allocated per request")
+                .baseUnit("bytes")
+                .tag("method", route.method())
+                .tag("uri", route.uri())
+                .register(meterRegistry);
+            this.allocatedPerRow = DistributionSummary.builder("taskify.http.allocated.per.row")
+                .description("Heap bytes allocated per request, divided by the rows it read")
+                .baseUnit("bytes")
+                .tag("method", route.method())
+                .tag("uri", route.uri())
+                .register(meterRegistry);
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle isVirtualHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual",
+                MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threads;
+        }
+        log.warn("Per-thread allocation counters are not available on this JVM; taskify.http.allocated is disabled");
+        return null;
+    }
+}
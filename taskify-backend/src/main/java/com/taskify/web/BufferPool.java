@@ -0,0 +1,57 @@
+package com.taskify.web;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reusable serialization buffers. Pooled rather than kept per thread, since with virtual threads every
+ * request runs on a new thread and a thread-local buffer would never be reused.
+ */
+final class BufferPool {
+
+    private static final int INITIAL_SIZE = 8192;
+
+    private final BlockingQueue<Buffer> buffers;
+    private final int maxRetainedCapacity;
+
+    /**
+     * The pool holds at most {@code capacity * maxRetainedCapacity} bytes of heap.
+     * @param capacity buffers kept between uses
+     * @param maxRetainedCapacity buffers whose backing array grew beyond this are dropped instead of kept
+     */
+    BufferPool(int capacity, int maxRetainedCapacity) {
+        this.buffers = new ArrayBlockingQueue<>(capacity);
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    /**
+     * An empty buffer, pooled or new.
+     */
+    Buffer acquire() {
+        Buffer buffer = buffers.poll();
+        return buffer != null ? buffer : new Buffer();
+    }
+
+    /**
+     * Return a buffer; the caller must not use it afterwards.
+     */
+    void release(Buffer buffer) {
+        // The array's length, not the bytes written: it can be up to twice as large after growing
+        if (buffer.capacity() <= maxRetainedCapacity) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    static final class Buffer extends ByteArrayOutputStream {
+
+        private Buffer() {
+            super(INITIAL_SIZE);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.taskify.web;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds API requests above an adaptive concurrency limit ({@link GradientLimit}) with an immediate 503 and
+ * Retry-After, so that under overload the admitted requests keep their latency instead of all of them
+ * queueing for a Tomcat thread and timing out together.
+ * Authentication requests form a priority lane that may exceed the limit by the configured headroom;
+ * actuator endpoints such as health probes are never limited. Only the regular lane feeds the limit.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] OVERLOADED_BODY =
+        "{\"error\":\"Server overloaded, retry later\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final GradientLimit limit;
+    private final double priorityHeadroom;
+    private final String retryAfter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejectedCounter;
+    private final Counter rejectedPriorityCounter;
+
+    public ConcurrencyLimitFilter(@Value("${taskify.concurrency-limit.initial-limit:20}") int initialLimit,
+                                  @Value("${taskify.concurrency-limit.min-limit:4}") int minLimit,
+                                  @Value("${taskify.concurrency-limit.max-limit:200}") int maxLimit,
+                                  @Value("${taskify.concurrency-limit.long-window:600}") int longWindow,
+                                  @Value("${taskify.concurrency-limit.priority-headroom:0.25}") double priorityHeadroom,
+                                  @Value("${taskify.concurrency-limit.retry-after:1s}") Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        this.limit = new GradientLimit(initialLimit, minLimit, maxLimit, longWindow);
+        this.priorityHeadroom = priorityHeadroom;
+        this.retryAfter = Long.toString(Math.max(1, retryAfter.toSeconds()));
+
+        Gauge.builder("taskify.concurrency.limit", limit, GradientLimit::limit)
+            .description("Current adaptive concurrency limit of the API")
+            .register(meterRegistry);
+        Gauge.builder("taskify.concurrency.inflight", inFlight, AtomicInteger::get)
+            .description("API requests in flight")
+            .register(meterRegistry);
+        this.rejectedCounter = rejectedCounter(meterRegistry, "api");
+        this.rejectedPriorityCounter = rejectedCounter(meterRegistry, "priority");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean priority = request.getRequestURI().startsWith("/api/auth/");
+        int currentLimit = limit.limit();
+        int allowed = priority ? currentLimit + (int) Math.ceil(currentLimit * priorityHeadroom) : currentLimit;
+        int current = inFlight.incrementAndGet();
+        if (current > allowed) {
+            inFlight.decrementAndGet();
+            (priority ? rejectedPriorityCounter : rejectedCounter).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            inFlight.decrementAndGet();
+            if (!priority) {
+                limit.onSample(System.nanoTime() - start, current, dropped);
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(OVERLOADED_BODY.length);
+        response.getOutputStream().write(OVERLOADED_BODY);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String lane) {
+        return Counter.builder("taskify.concurrency.rejected")
+            .description("API requests shed above the concurrency limit")
+            .tag("lane", lane)
+            .register(registry);
+    }
+}
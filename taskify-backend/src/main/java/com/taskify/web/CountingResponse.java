@@ -0,0 +1,66 @@
+package com.taskify.web;
+
+import java.io.IOException;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Counts the response bytes written through the output stream.
+ */
+final class CountingResponse extends HttpServletResponseWrapper {
+
+    private long bytes;
+    private ServletOutputStream stream;
+
+    CountingResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    long bytes() {
+        return bytes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (stream == null) {
+            ServletOutputStream target = super.getOutputStream();
+            stream = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    target.write(b);
+                    bytes++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    target.write(b, off, len);
+                    bytes += len;
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    target.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    target.close();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return target.isReady();
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    target.setWriteListener(writeListener);
+                }
+            };
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskify.web;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gradient concurrency limit, after Gradient2 in Netflix concurrency-limits.
+ * The limit follows the ratio of the long-term average latency to the latest one: requests getting
+ * slower than usual mean they are queueing, so the limit shrinks; as fast as usual, it grows by a
+ * square-root queue allowance. Comparing with an average rather than the minimum latency, as Vegas
+ * does, keeps cheap endpoints (404s, coalesced reads) from pinning the baseline and starving the limit.
+ */
+final class GradientLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double longWindowWeight;
+
+    // Every API request updates the limit; a lock rather than synchronized keeps virtual threads
+    // waiting for it from pinning their carrier on Java 21
+    private final ReentrantLock lock = new ReentrantLock();
+    // Guarded by lock; limit is also read without it
+    private volatile double limit;
+    private double longRttNanos;
+
+    /**
+     * @param longWindow number of samples the long-term average latency spans
+     */
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, int longWindow) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.longWindowWeight = 2.0 / (longWindow + 1);
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Update the limit from one completed request.
+     * @param inFlight requests in flight when this one started, itself included
+     * @param dropped whether the request failed, e.g. with a 5xx
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped) {
+        lock.lock();
+        try {
+            double current = limit;
+            if (dropped) {
+                limit = clamp(current * DROP_BACKOFF);
+                return;
+            }
+
+            longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + longWindowWeight * (rttNanos - longRttNanos);
+            // After a sustained slowdown, let the average catch up instead of shrinking the limit forever
+            if (longRttNanos / rttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+            // Not enough load to tell whether a higher limit would queue
+            if (inFlight * 2 < current) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / rttNanos));
+            double target = current * gradient + Math.sqrt(current);
+            limit = clamp(current * (1 - SMOOTHING) + target * SMOOTHING);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
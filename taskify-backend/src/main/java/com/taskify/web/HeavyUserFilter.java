@@ -0,0 +1,56 @@
+package com.taskify.web;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.taskify.jdbc.QueryCounter;
+import com.taskify.security.JwtFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Accounts authenticated API requests, their SQL time and response bytes to the user
+ * identified by {@link JwtFilter}, in the {@link HeavyUserTracker}.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.heavy-users.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 6)
+public class HeavyUserFilter extends OncePerRequestFilter {
+
+    private final HeavyUserTracker tracker;
+
+    public HeavyUserFilter(HeavyUserTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean counting = QueryCounter.begin();
+        CountingResponse counted = new CountingResponse(response);
+        try {
+            filterChain.doFilter(request, counted);
+        } finally {
+            if (request.getAttribute(JwtFilter.USER_ID_ATTRIBUTE) instanceof Long userId) {
+                tracker.record(userId, QueryCounter.totalNanos(), counted.bytes());
+            }
+            if (counting) {
+                QueryCounter.end();
+            }
+        }
+    }
+}
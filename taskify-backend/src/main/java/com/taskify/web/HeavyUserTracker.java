@@ -0,0 +1,189 @@
+package com.taskify.web;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.taskify.security.Pseudonymizer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-user request count, SQL time and response bytes, summarized per window with one
+ * {@link SpaceSaving} per dimension, so memory is fixed however many users there are.
+ * Users are reported under keyed pseudonyms. The share of each dimension taken by the top users of the
+ * last complete window is exported as taskify.users.heavy.share{dimension, rank}: ranks, not users, are
+ * tags, which keeps the number of series bounded.
+ * Each summary has its own lock and the window is swapped atomically, so requests only contend per
+ * dimension, for O(log capacity) updates. A request racing a rotation may be counted in the window
+ * that just closed after its snapshot was taken, and so be missed.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.heavy-users.enabled", havingValue = "true", matchIfMissing = true)
+public class HeavyUserTracker {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public enum Dimension {
+        REQUESTS("requests"), DB_TIME("db"), RESPONSE_BYTES("bytes");
+
+        private final String tag;
+
+        Dimension(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * @param user pseudonym
+     * @param value requests, SQL milliseconds or bytes; an upper bound
+     * @param maxError how much value may be over-estimated
+     * @param share value over the window total, 0-1
+     */
+    public record HeavyUser(String user, double value, double maxError, double share) {
+    }
+
+    public record Window(Instant start, Instant end, long requests, double dbMillis, long responseBytes,
+                         List<HeavyUser> byRequests, List<HeavyUser> byDbTime, List<HeavyUser> byResponseBytes) {
+
+        List<HeavyUser> top(Dimension dimension) {
+            return switch (dimension) {
+                case REQUESTS -> byRequests;
+                case DB_TIME -> byDbTime;
+                case RESPONSE_BYTES -> byResponseBytes;
+            };
+        }
+    }
+
+    private final int capacity;
+    private final int topK;
+    private final long windowMillis;
+    private final Pseudonymizer pseudonymizer;
+
+    private record Current(long start, SpaceSaving[] summaries) {
+    }
+
+    // Taken only to rotate windows
+    private final ReentrantLock rotationLock = new ReentrantLock();
+    private volatile Current current;
+    private volatile Window previous;
+
+    public HeavyUserTracker(@Value("${taskify.heavy-users.capacity:256}") int capacity,
+                            @Value("${taskify.heavy-users.top-k:10}") int topK,
+                            @Value("${taskify.heavy-users.window:5m}") Duration window,
+                            @Value("${taskify.heavy-users.pseudonym-key:}") String pseudonymKey,
+                            MeterRegistry meterRegistry) throws GeneralSecurityException {
+        this.capacity = capacity;
+        this.topK = topK;
+        this.windowMillis = window.toMillis();
+        this.pseudonymizer = new Pseudonymizer(pseudonymKey);
+        long now = System.currentTimeMillis();
+        this.current = new Current(now, newSummaries());
+        this.previous = snapshot(newSummaries(), now - windowMillis, now);
+        registerGauges(meterRegistry);
+    }
+
+    /**
+     * Account one request to a user.
+     */
+    public void record(long userId, long dbNanos, long responseBytes) {
+        SpaceSaving[] summaries = current(System.currentTimeMillis()).summaries();
+        summaries[Dimension.REQUESTS.ordinal()].add(userId, 1);
+        summaries[Dimension.DB_TIME.ordinal()].add(userId, dbNanos);
+        summaries[Dimension.RESPONSE_BYTES.ordinal()].add(userId, responseBytes);
+    }
+
+    /**
+     * The current window so far, then the last complete one.
+     */
+    public List<Window> windows() {
+        long now = System.currentTimeMillis();
+        Current window = current(now);
+        return List.of(snapshot(window.summaries(), window.start(), now), previous);
+    }
+
+    private double share(Dimension dimension, int rank) {
+        current(System.currentTimeMillis());
+        List<HeavyUser> top = previous.top(dimension);
+        return rank <= top.size() ? top.get(rank - 1).share() : 0;
+    }
+
+    private void registerGauges(MeterRegistry meterRegistry) {
+        for (Dimension dimension : Dimension.values()) {
+            for (int rank = 1; rank <= topK; rank++) {
+                int gaugeRank = rank;
+                Gauge.builder("taskify.users.heavy.share", this, tracker -> tracker.share(dimension, gaugeRank))
+                    .description("Share of requests, SQL time or response bytes taken by the n-th heaviest user "
+                        + "in the last complete window")
+                    .tag("dimension", dimension.tag)
+                    .tag("rank", Integer.toString(rank))
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * The window containing now, rotating first if the current one is over.
+     */
+    private Current current(long now) {
+        Current window = current;
+        if (now - window.start() < windowMillis) {
+            return window;
+        }
+        rotationLock.lock();
+        try {
+            window = current;
+            if (now - window.start() >= windowMillis) {
+                long end = window.start() + windowMillis;
+                // Skip windows without traffic
+                long start = now - (now - end) % windowMillis;
+                previous = start == end
+                    ? snapshot(window.summaries(), window.start(), end)
+                    // The last complete window is one of the skipped, empty ones
+                    : snapshot(newSummaries(), start - windowMillis, start);
+                current = new Current(start, newSummaries());
+            }
+            return current;
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+
+    private SpaceSaving[] newSummaries() {
+        SpaceSaving[] summaries = new SpaceSaving[Dimension.values().length];
+        for (int i = 0; i < summaries.length; i++) {
+            summaries[i] = new SpaceSaving(capacity);
+        }
+        return summaries;
+    }
+
+    private Window snapshot(SpaceSaving[] summaries, long start, long end) {
+        SpaceSaving requests = summaries[Dimension.REQUESTS.ordinal()];
+        SpaceSaving db = summaries[Dimension.DB_TIME.ordinal()];
+        SpaceSaving bytes = summaries[Dimension.RESPONSE_BYTES.ordinal()];
+        return new Window(Instant.ofEpochMilli(start), Instant.ofEpochMilli(end),
+            requests.total(), db.total() / NANOS_PER_MILLI, bytes.total(),
+            heavyUsers(requests, 1), heavyUsers(db, NANOS_PER_MILLI), heavyUsers(bytes, 1));
+    }
+
+    private List<HeavyUser> heavyUsers(SpaceSaving summary, double unit) {
+        List<SpaceSaving.Entry> top = summary.top(topK);
+        List<HeavyUser> users = new ArrayList<>(top.size());
+        for (SpaceSaving.Entry entry : top) {
+            users.add(new HeavyUser(
+                Long.toHexString(pseudonymizer.pseudonym(Long.toString(entry.key()))),
+                entry.count() / unit,
+                entry.error() / unit,
+                summary.total() > 0 ? (double) entry.count() / summary.total() : 0));
+        }
+        return users;
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskify.web;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the heaviest users of the current and last windows: /actuator/heavyusers.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.heavy-users.enabled", havingValue = "true", matchIfMissing = true)
+@Endpoint(id = "heavyusers")
+public class HeavyUsersEndpoint {
+
+    private final HeavyUserTracker tracker;
+
+    public HeavyUsersEndpoint(HeavyUserTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public List<HeavyUserTracker.Window> heavyUsers() {
+        return tracker.windows();
+    }
+}
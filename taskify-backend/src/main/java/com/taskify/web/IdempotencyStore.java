@@ -0,0 +1,167 @@
+package com.taskify.web;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.taskify.exception.InvalidRequestException;
+
+/**
+ * Bounded, TTL-evicting store of responses keyed by user and Idempotency-Key header.
+ * Concurrent requests with the same key wait for the first one and receive its response.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    // Insertion order; with a single TTL this is also expiry order
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger completedCount = new AtomicInteger();
+
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public IdempotencyStore(@Value("${taskify.idempotency.ttl:PT24H}") Duration ttl,
+                            @Value("${taskify.idempotency.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Execute a write at most once per (user, key).
+     * Only successful (2xx) responses are kept; other outcomes release the key so the client can retry.
+     * @param userId the authenticated user's ID
+     * @param key the Idempotency-Key header value, or null to execute without deduplication
+     * @param fingerprint value identifying the request payload; a key reused with another payload is rejected
+     * @param action the write to perform
+     * @return the response of the first execution, marked as replayed for duplicates
+     * @throws InvalidRequestException if the key was already used with a different payload
+     */
+    public ResponseEntity<?> execute(Long userId, String key, Object fingerprint,
+                                     Supplier<ResponseEntity<?>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        Key storeKey = new Key(userId, key);
+        Entry entry = new Entry(storeKey, fingerprint);
+
+        while (true) {
+            Entry existing = entries.putIfAbsent(storeKey, entry);
+            if (existing == null) {
+                return runAndStore(entry, action);
+            }
+            if (existing.isExpired(System.nanoTime())) {
+                entries.remove(storeKey, existing);
+                continue;
+            }
+            if (!Objects.equals(existing.fingerprint, fingerprint)) {
+                throw new InvalidRequestException("Idempotency-Key has already been used with a different request");
+            }
+            ResponseEntity<?> response = await(existing);
+            if (response == null) {
+                // The first attempt failed and released the key; try to become the owner
+                continue;
+            }
+            return replay(response);
+        }
+    }
+
+    /**
+     * Current number of stored keys (completed and in flight).
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private ResponseEntity<?> runAndStore(Entry entry, Supplier<ResponseEntity<?>> action) {
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            entries.remove(entry.key, entry);
+            entry.response.complete(null);
+            throw e;
+        }
+
+        if (response.getStatusCode().is2xxSuccessful()) {
+            entry.expiresAt = System.nanoTime() + ttlNanos;
+            insertionOrder.add(entry);
+            completedCount.incrementAndGet();
+            evict();
+            entry.response.complete(response);
+        } else {
+            entries.remove(entry.key, entry);
+            entry.response.complete(null);
+        }
+        return response;
+    }
+
+    private ResponseEntity<?> await(Entry entry) {
+        try {
+            return entry.response.join();
+        } catch (CancellationException | CompletionException e) {
+            return null;
+        }
+    }
+
+    private ResponseEntity<?> replay(ResponseEntity<?> original) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(original.getHeaders());
+        headers.set(REPLAYED_HEADER, "true");
+        return new ResponseEntity<>(original.getBody(), headers, original.getStatusCode());
+    }
+
+    /**
+     * Drop expired entries from the head of the queue, then the oldest ones while over capacity.
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        Entry head;
+        while ((head = insertionOrder.peek()) != null
+                && (head.isExpired(now) || completedCount.get() > maxEntries)) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            completedCount.decrementAndGet();
+            entries.remove(oldest.key, oldest);
+        }
+    }
+
+    private record Key(Long userId, String key) {
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final Object fingerprint;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(Key key, Object fingerprint) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskify.web;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.taskify.jdbc.QueryCounter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the SQL statements each API request executes, to catch N+1 patterns.
+ * The count is exported per route as taskify.http.queries, exposed as a request attribute for tests,
+ * and logged when it exceeds the configured budget.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.jdbc.metrics.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute holding the number of statements the request executed.
+     */
+    public static final String QUERY_COUNT_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".queryCount";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+    // Registered once per route rather than looked up by a new builder on every request
+    private final ConcurrentMap<Route, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry,
+                             @Value("${taskify.jdbc.query-budget:10}") int budget) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean opened = QueryCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = opened ? QueryCounter.end() : QueryCounter.count();
+            Object template = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = template != null ? template.toString() : "UNKNOWN";
+            request.setAttribute(QUERY_COUNT_ATTRIBUTE, queries);
+
+            summary(new Route(request.getMethod(), uri)).record(queries);
+            if (queries > budget) {
+                log.warn("{} {} executed {} SQL statements, over the budget of {}",
+                    request.getMethod(), uri, queries, budget);
+            }
+        }
+    }
+
+    private DistributionSummary summary(Route route) {
+        DistributionSummary summary = summaries.get(route);
+        return summary != null ? summary : summaries.computeIfAbsent(route, key ->
+            DistributionSummary.builder("taskify.http.queries")
+                .description("SQL statements executed per request")
+                .tag("method", key.method())
+                .tag("uri", key.uri())
+                .register(meterRegistry));
+    }
+
+    private record Route(String method, String uri) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskify.web;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.taskify.service.AppointmentChangedEvent;
+import com.taskify.service.TaskChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Single-flight layer for read endpoints.
+ * Identical concurrent reads (same resource, user, query string and negotiated
+ * format) share one database execution and one serialized response body. Only in-flight calls are
+ * shared; nothing is cached once the leading call completes. Callers that share a body also get the
+ * serialize phase its loader recorded in {@link ServerTiming}, since they serve the same encoded bytes.
+ * Once a write of a user's tasks or appointments commits, that user's in-flight reads are no longer
+ * shared: they may have started before the write, and a read sent after it must see it.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentMap<Key, CompletableFuture<Result>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter readExecutedCounter;
+    private final Counter readCoalescedCounter;
+
+    public RequestCoalescer(Counter readExecutedCounter, Counter readCoalescedCounter) {
+        this.readExecutedCounter = readExecutedCounter;
+        this.readCoalescedCounter = readCoalescedCounter;
+    }
+
+    /**
+     * Run the loader, or wait for an identical call that is already running.
+     * @param resource logical name of the read (e.g. "tasks")
+     * @param userId the authenticated user's ID
+     * @param query the raw query string, or null
+     * @param contentType the format the loader serializes to
+     * @param loader produces the serialized response body
+     * @return the serialized body; callers must not modify it
+     */
+    public byte[] execute(String resource, Long userId, String query, MediaType contentType,
+                          Callable<byte[]> loader) {
+        Key key = new Key(resource, userId, query, contentType);
+        CompletableFuture<Result> call = new CompletableFuture<>();
+        CompletableFuture<Result> leader = inFlight.putIfAbsent(key, call);
+
+        if (leader != null) {
+            readCoalescedCounter.increment();
+            Result result;
+            try {
+                result = leader.join();
+            } catch (CompletionException e) {
+                throw propagate(e.getCause());
+            }
+            ServerTiming.add(ServerTiming.Phase.SERIALIZE, result.serializeNanos());
+            return result.body();
+        }
+
+        readExecutedCounter.increment();
+        try {
+            long serializeBefore = ServerTiming.phaseNanos(ServerTiming.Phase.SERIALIZE);
+            byte[] body = loader.call();
+            inFlight.remove(key, call);
+            call.complete(new Result(body, ServerTiming.phaseNanos(ServerTiming.Phase.SERIALIZE) - serializeBefore));
+            return body;
+        } catch (Throwable e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Stop sharing the in-flight reads of a user. Calls already waiting on them keep their result;
+     * later identical reads start a new execution.
+     */
+    public void invalidate(Long userId) {
+        inFlight.keySet().removeIf(key -> userId.equals(key.userId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Read failed: " + e.getMessage(), e);
+    }
+
+    private record Result(byte[] body, long serializeNanos) {
+    }
+
+    private record Key(String resource, Long userId, String query, MediaType contentType) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskify.web;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Negotiates and encodes the bodies that controllers serialize themselves (the coalesced list reads):
+ * JSON by default, CBOR or Smile when Accept prefers them, with the same ObjectMappers as the message
+ * converters so every endpoint writes a format identically. Bodies are streamed by the caller straight
+ * into a pooled buffer through a {@link JsonGenerator}, without building response DTOs first.
+ */
+@Component
+public class ResponseEncoder {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    // In order of preference when Accept does not distinguish them, e.g. */*
+    private final List<MediaType> supported = List.of(
+        MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    // At most 16 MiB kept between requests; buffers grown past 1 MiB for large lists are dropped
+    private final BufferPool buffers = new BufferPool(16, 1 << 20);
+
+    private final Map<MediaType, ObjectMapper> objectMappers;
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    public ResponseEncoder(ObjectMapper objectMapper,
+                           MappingJackson2CborHttpMessageConverter cborConverter,
+                           MappingJackson2SmileHttpMessageConverter smileConverter,
+                           ContentNegotiationManager contentNegotiationManager) {
+        this.objectMappers = Map.of(
+            MediaType.APPLICATION_JSON, objectMapper,
+            MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper(),
+            APPLICATION_SMILE, smileConverter.getObjectMapper());
+        this.contentNegotiationManager = contentNegotiationManager;
+    }
+
+    /**
+     * The supported format the request's Accept header prefers.
+     * @return JSON when Accept is missing, invalid or names no supported format
+     */
+    public MediaType negotiate(HttpServletRequest request) {
+        List<MediaType> accepted;
+        try {
+            accepted = contentNegotiationManager.resolveMediaTypes(new ServletWebRequest(request));
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        // Resolved types are sorted by specificity and quality
+        for (MediaType mediaType : accepted) {
+            for (MediaType candidate : supported) {
+                if (mediaType.isCompatibleWith(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Serialize a body in a format returned by {@link #negotiate}, timed as the request's serialize phase.
+     * @param writer writes the body to a generator of that format
+     */
+    public byte[] encode(MediaType mediaType, BodyWriter writer) throws IOException {
+        ObjectMapper objectMapper = objectMappers.get(mediaType);
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("Unsupported media type " + mediaType);
+        }
+        long start = System.nanoTime();
+        BufferPool.Buffer buffer = buffers.acquire();
+        try {
+            try (JsonGenerator generator = objectMapper.createGenerator(buffer)) {
+                writer.write(generator);
+            }
+            return buffer.toByteArray();
+        } finally {
+            buffers.release(buffer);
+            ServerTiming.add(ServerTiming.Phase.SERIALIZE, System.nanoTime() - start);
+        }
+    }
+
+    @FunctionalInterface
+    public interface BodyWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
@@ -0,0 +1,161 @@
+package com.taskify.web;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.taskify.jdbc.QueryCounter;
+
+/**
+ * Per-request accumulator for the Server-Timing response header.
+ * Phases are measured with {@link System#nanoTime()} by the code that runs them and added here;
+ * the database phase comes from {@link QueryCounter}, less the statements already inside a phase,
+ * so that no time is reported twice. One instance is kept per thread and reused by the
+ * requests a pooled platform thread serves; a virtual thread serves one request and gets a new instance.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    /**
+     * Phases measured outside the database.
+     */
+    public enum Phase {
+        JWT,
+        USER,
+        SERIALIZE
+    }
+
+    private static final ThreadLocal<ServerTiming> CURRENT = ThreadLocal.withInitial(ServerTiming::new);
+
+    private final long[] phaseNanos = new long[Phase.SERIALIZE.ordinal() + 1];
+    private long phaseDbNanos;
+    private long startNanos;
+    private boolean active;
+    private boolean requested;
+    private String authority;
+    private boolean reported;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * Start accumulating for the request on this thread. Nested calls share the outer accumulator
+     * and only add the reporting preferences.
+     * @param requested whether the client asked for the header
+     * @param authority authority that gets the header without asking, or null
+     * @return true if this call started the accumulator, and should stop it with {@link #end()}
+     */
+    static boolean begin(boolean requested, String authority) {
+        ServerTiming timing = CURRENT.get();
+        if (timing.active) {
+            timing.requested |= requested;
+            if (authority != null) {
+                timing.authority = authority;
+            }
+            return false;
+        }
+        Arrays.fill(timing.phaseNanos, 0);
+        timing.phaseDbNanos = 0;
+        timing.startNanos = System.nanoTime();
+        timing.active = true;
+        timing.requested = requested;
+        timing.authority = authority;
+        timing.reported = false;
+        return true;
+    }
+
+    static void end() {
+        CURRENT.get().active = false;
+    }
+
+    /**
+     * Time recorded for a phase in the current or last request on this thread.
+     */
+    static long phaseNanos(Phase phase) {
+        return CURRENT.get().phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Database time of the current or last request on this thread, outside the other phases.
+     */
+    static long dbNanos() {
+        return Math.max(0, QueryCounter.totalNanos() - CURRENT.get().phaseDbNanos);
+    }
+
+    /**
+     * Add time spent in a phase to the current request; ignored outside a request.
+     */
+    public static void add(Phase phase, long nanos) {
+        add(phase, nanos, 0);
+    }
+
+    /**
+     * Add time spent in a phase that ran statements; their time, as counted by {@link QueryCounter},
+     * is taken out of the database phase.
+     * @param dbNanos part of nanos spent in statements
+     */
+    public static void add(Phase phase, long nanos, long dbNanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing.active) {
+            timing.phaseNanos[phase.ordinal()] += nanos;
+            timing.phaseDbNanos += dbNanos;
+        }
+    }
+
+    /**
+     * Whether the current request gets a Server-Timing header that has not been produced yet.
+     * The role check runs at response time, once the security context is populated.
+     */
+    static boolean pending() {
+        ServerTiming timing = CURRENT.get();
+        if (!timing.active || timing.reported) {
+            return false;
+        }
+        if (!timing.requested && timing.authority != null) {
+            timing.requested = hasAuthority(timing.authority);
+            timing.authority = null;
+        }
+        return timing.requested;
+    }
+
+    /**
+     * Header value for the time accumulated so far, e.g.
+     * {@code jwt;dur=0.05, user;dur=0.36, db;dur=1.20, serialize;dur=0.08, total;dur=2.35}.
+     * Marks the header as produced.
+     */
+    static String headerValue() {
+        ServerTiming timing = CURRENT.get();
+        timing.reported = true;
+        StringBuilder value = new StringBuilder(96);
+        appendMetric(value, "jwt", timing.phaseNanos[Phase.JWT.ordinal()]);
+        appendMetric(value, "user", timing.phaseNanos[Phase.USER.ordinal()]);
+        appendMetric(value, "db", dbNanos());
+        appendMetric(value, "serialize", timing.phaseNanos[Phase.SERIALIZE.ordinal()]);
+        appendMetric(value, "total", System.nanoTime() - timing.startNanos);
+        return value.toString();
+    }
+
+    private static boolean hasAuthority(String authority) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return false;
+        }
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            if (authority.equals(granted.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendMetric(StringBuilder value, String name, long nanos) {
+        if (value.length() > 0) {
+            value.append(", ");
+        }
+        value.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1e6));
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskify.web;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Adds a Server-Timing header (auth, db, serialize, total) to API responses, for clients that send
+ * the configured request header or users holding the configured role.
+ * The header is written just before the body starts, since headers cannot change after that;
+ * JSON bodies are serialized into a buffer first so the serialize phase is included.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final String requestHeader;
+    private final String authority;
+
+    public ServerTimingFilter(@Value("${taskify.server-timing.request-header:X-Server-Timing}") String requestHeader,
+                              @Value("${taskify.server-timing.role:}") String role) {
+        this.requestHeader = requestHeader;
+        this.authority = role.isEmpty() ? null : "ROLE_" + role;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean requested = "true".equalsIgnoreCase(request.getHeader(requestHeader));
+        if (!requested && authority == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean started = ServerTiming.begin(requested, authority);
+        try {
+            filterChain.doFilter(request, new TimingResponse(response));
+            if (!response.isCommitted()) {
+                writeHeader(response);
+            }
+        } finally {
+            if (started) {
+                ServerTiming.end();
+            }
+        }
+    }
+
+    private static void writeHeader(HttpServletResponse response) {
+        if (ServerTiming.pending() && !response.containsHeader(ServerTiming.HEADER)) {
+            response.setHeader(ServerTiming.HEADER, ServerTiming.headerValue());
+        }
+    }
+
+    /**
+     * Writes the header when the body is first opened, for responses not produced by the JSON converter.
+     */
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+
+        TimingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader((HttpServletResponse) getResponse());
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader((HttpServletResponse) getResponse());
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader((HttpServletResponse) getResponse());
+            super.flushBuffer();
+        }
+    }
+}
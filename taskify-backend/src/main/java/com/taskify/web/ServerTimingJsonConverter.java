@@ -0,0 +1,55 @@
+package com.taskify.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson converter that times serialization for the Server-Timing header.
+ * Only requests that get the header are serialized into a buffer first, so the header can still be set;
+ * all other requests stream as usual.
+ */
+public class ServerTimingJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    // At most 16 MiB kept between requests; larger buffers are dropped
+    private final BufferPool buffers = new BufferPool(16, 1 << 20);
+
+    public ServerTimingJsonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!ServerTiming.pending()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        BufferPool.Buffer buffer = buffers.acquire();
+        long start = System.nanoTime();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        ServerTiming.add(ServerTiming.Phase.SERIALIZE, System.nanoTime() - start);
+
+        outputMessage.getHeaders().set(ServerTiming.HEADER, ServerTiming.headerValue());
+        buffer.writeTo(outputMessage.getBody());
+        buffers.release(buffer);
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskify.web;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.taskify.jdbc.QueryCounter;
+import com.taskify.web.SlowRequestRecorder.SlowRequest;
+import com.taskify.web.SlowRequestRecorder.Statement;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Feeds API requests to the {@link SlowRequestRecorder}.
+ * Phase timings come from the shared per-request accumulators; the breakdown is only copied out
+ * for requests slow enough to be kept.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.flight-recorder.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class SlowRequestFilter extends OncePerRequestFilter {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final SlowRequestRecorder recorder;
+
+    public SlowRequestFilter(SlowRequestRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        long gcStart = recorder.gcPauseMillis();
+        boolean timing = ServerTiming.begin(false, null);
+        boolean counting = QueryCounter.begin();
+        CountingResponse counted = new CountingResponse(response);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, counted);
+            failed = false;
+        } finally {
+            long durationNanos = System.nanoTime() - startNanos;
+            if (recorder.isCandidate(durationNanos)) {
+                recorder.record(durationNanos, snapshot(request, response, counted, startMillis, durationNanos,
+                    recorder.gcPauseMillis() - gcStart, failed));
+            }
+            if (counting) {
+                QueryCounter.end();
+            }
+            if (timing) {
+                ServerTiming.end();
+            }
+        }
+    }
+
+    private static SlowRequest snapshot(HttpServletRequest request, HttpServletResponse response,
+                                        CountingResponse counted, long startMillis, long durationNanos,
+                                        long gcPauseMillis, boolean failed) {
+        int queries = QueryCounter.count();
+        List<Statement> statements = new ArrayList<>(Math.min(queries, QueryCounter.MAX_STATEMENTS));
+        for (int i = 0; i < queries && i < QueryCounter.MAX_STATEMENTS; i++) {
+            statements.add(new Statement(QueryCounter.statement(i), QueryCounter.statementNanos(i) / NANOS_PER_MILLI));
+        }
+        Object template = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return new SlowRequest(
+            Instant.ofEpochMilli(startMillis),
+            request.getMethod(),
+            template != null ? template.toString() : "UNKNOWN",
+            failed ? 500 : response.getStatus(),
+            durationNanos / NANOS_PER_MILLI,
+            (ServerTiming.phaseNanos(ServerTiming.Phase.JWT) + ServerTiming.phaseNanos(ServerTiming.Phase.USER))
+                / NANOS_PER_MILLI,
+            ServerTiming.dbNanos() / NANOS_PER_MILLI,
+            ServerTiming.phaseNanos(ServerTiming.Phase.SERIALIZE) / NANOS_PER_MILLI,
+            gcPauseMillis,
+            counted.bytes(),
+            queries,
+            statements);
+    }
+}
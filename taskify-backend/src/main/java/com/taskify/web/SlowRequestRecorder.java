@@ -0,0 +1,214 @@
+package com.taskify.web;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * Keeps the K slowest requests of each time window, with their full phase breakdown.
+ * Lock-free: each window is a fixed array of slots updated with compare-and-set, and windows
+ * are recycled in a ring. Requests faster than every retained one are rejected without allocating.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.flight-recorder.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowRequestRecorder implements DisposableBean {
+
+    /**
+     * One SQL statement executed by a slow request.
+     */
+    public record Statement(String sql, double millis) {
+    }
+
+    /**
+     * A recorded slow request; durations are in milliseconds.
+     */
+    public record SlowRequest(Instant start, String method, String uri, int status, double totalMillis,
+                              double authMillis, double dbMillis, double serializeMillis, long gcPauseMillis,
+                              long responseBytes, int queries, List<Statement> statements) {
+    }
+
+    /**
+     * The slowest requests of one window, slowest first.
+     */
+    public record Window(Instant start, Instant end, List<SlowRequest> slowest) {
+    }
+
+    private record Entry(long durationNanos, SlowRequest request) {
+    }
+
+    private static final class Slots {
+        final long windowId;
+        final AtomicReferenceArray<Entry> entries;
+
+        Slots(long windowId, int size) {
+            this.windowId = windowId;
+            this.entries = new AtomicReferenceArray<>(size);
+        }
+    }
+
+    private final int topK;
+    private final long windowMillis;
+    private final AtomicReferenceArray<Slots> ring;
+    private final AtomicLong gcPauseMillis = new AtomicLong();
+    private final NotificationListener gcListener = (notification, handback) -> {
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            // Concurrent cycles (G1 Concurrent GC, ZGC Cycles) do not stop application threads
+            if (!info.getGcName().contains("Concurrent") && !info.getGcName().contains("Cycles")) {
+                gcPauseMillis.addAndGet(info.getGcInfo().getDuration());
+            }
+        }
+    };
+
+    public SlowRequestRecorder(@Value("${taskify.flight-recorder.top-k:10}") int topK,
+                               @Value("${taskify.flight-recorder.window:1m}") Duration window,
+                               @Value("${taskify.flight-recorder.windows:15}") int windows) {
+        this.topK = topK;
+        this.windowMillis = window.toMillis();
+        this.ring = new AtomicReferenceArray<>(windows);
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(gcListener, null, null);
+            }
+        }
+    }
+
+    /**
+     * Total stop-the-world GC time since startup, in milliseconds.
+     */
+    public long gcPauseMillis() {
+        return gcPauseMillis.get();
+    }
+
+    /**
+     * Whether a request of this duration would currently be kept. Does not allocate.
+     */
+    public boolean isCandidate(long durationNanos) {
+        long windowId = currentWindow();
+        Slots slots = ring.get(ringIndex(windowId));
+        if (slots == null || slots.windowId != windowId) {
+            return true;
+        }
+        for (int i = 0; i < topK; i++) {
+            Entry entry = slots.entries.get(i);
+            if (entry == null || entry.durationNanos() < durationNanos) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keep the request if it is among the K slowest of the current window.
+     * @return true if it was kept
+     */
+    public boolean record(long durationNanos, SlowRequest request) {
+        Slots slots = slots(currentWindow());
+        Entry candidate = new Entry(durationNanos, request);
+        while (true) {
+            int fastest = -1;
+            Entry fastestEntry = null;
+            for (int i = 0; i < topK; i++) {
+                Entry entry = slots.entries.get(i);
+                if (entry == null) {
+                    fastest = i;
+                    fastestEntry = null;
+                    break;
+                }
+                if (fastestEntry == null || entry.durationNanos() < fastestEntry.durationNanos()) {
+                    fastest = i;
+                    fastestEntry = entry;
+                }
+            }
+            if (fastestEntry != null && fastestEntry.durationNanos() >= durationNanos) {
+                return false;
+            }
+            if (slots.entries.compareAndSet(fastest, fastestEntry, candidate)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Retained windows, most recent first.
+     */
+    public List<Window> windows() {
+        long current = currentWindow();
+        List<Window> windows = new ArrayList<>();
+        for (long id = current; id > current - ring.length(); id--) {
+            Slots slots = ring.get(ringIndex(id));
+            if (slots == null || slots.windowId != id) {
+                continue;
+            }
+            List<Entry> entries = new ArrayList<>(topK);
+            for (int i = 0; i < topK; i++) {
+                Entry entry = slots.entries.get(i);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+            entries.sort(Comparator.comparingLong(Entry::durationNanos).reversed());
+            windows.add(new Window(Instant.ofEpochMilli(id * windowMillis), Instant.ofEpochMilli((id + 1) * windowMillis),
+                entries.stream().map(Entry::request).toList()));
+        }
+        return windows;
+    }
+
+    @Override
+    public void destroy() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                try {
+                    emitter.removeNotificationListener(gcListener);
+                } catch (ListenerNotFoundException e) {
+                    // not registered on this collector
+                }
+            }
+        }
+    }
+
+    private long currentWindow() {
+        return System.currentTimeMillis() / windowMillis;
+    }
+
+    private int ringIndex(long windowId) {
+        return (int) Math.floorMod(windowId, (long) ring.length());
+    }
+
+    private Slots slots(long windowId) {
+        int index = ringIndex(windowId);
+        while (true) {
+            Slots slots = ring.get(index);
+            if (slots != null && slots.windowId == windowId) {
+                return slots;
+            }
+            if (slots != null && slots.windowId > windowId) {
+                // A stalled thread from an older window: record into a throwaway array
+                return new Slots(windowId, topK);
+            }
+            Slots fresh = new Slots(windowId, topK);
+            if (ring.compareAndSet(index, slots, fresh)) {
+                return fresh;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskify.web;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the slowest requests of each recent window: /actuator/slowrequests.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.flight-recorder.enabled", havingValue = "true", matchIfMissing = true)
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestRecorder recorder;
+
+    public SlowRequestsEndpoint(SlowRequestRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public List<SlowRequestRecorder.Window> slowRequests() {
+        return recorder.windows();
+    }
+}
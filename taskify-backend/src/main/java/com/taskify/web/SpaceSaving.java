@@ -0,0 +1,146 @@
+package com.taskify.web;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Space-Saving summary (Metwally et al.): approximate top-k weighted keys of a stream in a fixed
+ * number of counters. A key that is not tracked replaces the smallest counter and inherits its count
+ * as error, so counts are over-estimated by at most total / capacity, and any key weighing more than
+ * that is guaranteed to be tracked.
+ * Counters are kept in a min-heap indexed by key, so finding the smallest one is O(1) and an update
+ * O(log capacity); weights are arbitrary, which rules out the unit-increment Stream-Summary lists.
+ * Thread-safe, with one lock per summary.
+ */
+final class SpaceSaving {
+
+    /**
+     * @param count estimated weight, an upper bound
+     * @param error over-estimation bound; count - error is a lower bound
+     */
+    record Entry(long key, long count, long error) {
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int capacity;
+    // Min-heap on counts, in parallel arrays; index maps each tracked key to its heap slot
+    private final long[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<Long, Integer> index;
+    private int size;
+    private long total;
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.keys = new long[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.index = new HashMap<>(capacity * 2);
+    }
+
+    void add(long key, long weight) {
+        lock.lock();
+        try {
+            total += weight;
+            Integer slot = index.get(key);
+            int i;
+            if (slot != null) {
+                i = slot;
+            } else if (size < capacity) {
+                // New leaf: it may be smaller than its parents
+                i = size++;
+                keys[i] = key;
+                counts[i] = weight;
+                errors[i] = 0;
+                index.put(key, i);
+                siftUp(i);
+                return;
+            } else {
+                // Evict the smallest counter, at the root, and reuse it
+                i = 0;
+                index.remove(keys[0]);
+                keys[0] = key;
+                errors[0] = counts[0];
+                index.put(key, 0);
+            }
+            counts[i] += weight;
+            siftDown(i);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long total() {
+        lock.lock();
+        try {
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Entry> top(int k) {
+        List<Entry> entries;
+        lock.lock();
+        try {
+            entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                entries.add(new Entry(keys[i], counts[i], errors[i]));
+            }
+        } finally {
+            lock.unlock();
+        }
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+        return entries.size() > k ? List.copyOf(entries.subList(0, k)) : entries;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (counts[parent] <= counts[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    // Tracked counts only grow, so an updated counter only ever moves down
+    private void siftDown(int i) {
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (right < size && counts[right] < counts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == i) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long key = keys[a];
+        long count = counts[a];
+        long error = errors[a];
+        keys[a] = keys[b];
+        counts[a] = counts[b];
+        errors[a] = errors[b];
+        keys[b] = key;
+        counts[b] = count;
+        errors[b] = error;
+        index.put(keys[a], a);
+        index.put(keys[b], b);
+    }
+}
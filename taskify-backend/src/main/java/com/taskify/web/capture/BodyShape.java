@@ -0,0 +1,85 @@
+package com.taskify.web.capture;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.taskify.model.TaskStatus;
+
+/**
+ * Reduces a JSON object body to its shape: field names and value types, never the values,
+ * except names of the API's own enums. Other strings only keep their length, even when they look
+ * like constants, since they may be secrets. For example
+ * {@code {"title":"Buy milk","status":"DONE"}} becomes {@code title:s8,status:=DONE}.
+ * <ul>
+ *   <li>{@code s<n>} string of n characters, {@code d} ISO date-time string</li>
+ *   <li>{@code =NAME} known enum constant, such as a {@link TaskStatus}</li>
+ *   <li>{@code n} number, {@code b} boolean, {@code z} null, {@code o} object, {@code a} array</li>
+ * </ul>
+ */
+public final class BodyShape {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final Set<String> CONSTANTS = Arrays.stream(TaskStatus.values())
+        .map(Enum::name)
+        .collect(Collectors.toUnmodifiableSet());
+    private static final Pattern DATE_TIME = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}.*");
+
+    private BodyShape() {
+    }
+
+    /**
+     * Shape of a top-level JSON object; "?" if the body is not a JSON object.
+     */
+    public static String of(byte[] body) {
+        if (body.length == 0) {
+            return "";
+        }
+        StringBuilder shape = new StringBuilder();
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return "?";
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (shape.length() > 0) {
+                    shape.append(',');
+                }
+                shape.append(parser.getCurrentName()).append(':');
+                JsonToken value = parser.nextToken();
+                switch (value) {
+                    case VALUE_STRING -> appendString(shape, parser.getText());
+                    case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> shape.append('n');
+                    case VALUE_TRUE, VALUE_FALSE -> shape.append('b');
+                    case VALUE_NULL -> shape.append('z');
+                    case START_OBJECT -> {
+                        shape.append('o');
+                        parser.skipChildren();
+                    }
+                    case START_ARRAY -> {
+                        shape.append('a');
+                        parser.skipChildren();
+                    }
+                    default -> shape.append('?');
+                }
+            }
+        } catch (IOException e) {
+            return "?";
+        }
+        return shape.toString();
+    }
+
+    private static void appendString(StringBuilder shape, String value) {
+        if (CONSTANTS.contains(value)) {
+            shape.append('=').append(value);
+        } else if (DATE_TIME.matcher(value).matches()) {
+            shape.append('d');
+        } else {
+            shape.append('s').append(value.length());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskify.web.capture;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary layout of capture files.
+ * Header: int magic, byte version, long epoch micros of the file start.
+ * Record: zigzag varlong start offset (micros from file start), varlong duration (micros),
+ * method, path template, varint status, long pseudonym, body shape. Strings use a per-file
+ * dictionary: varint 0 followed by the UTF string on first use, then varint index (1-based).
+ */
+final class CaptureFormat {
+
+    static final int MAGIC = 0x54434150; // "TCAP"
+    static final byte VERSION = 1;
+    static final String EXTENSION = ".tcap";
+
+    private CaptureFormat() {
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
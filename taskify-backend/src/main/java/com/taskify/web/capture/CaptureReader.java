@@ -0,0 +1,79 @@
+package com.taskify.web.capture;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads capture files written by {@link CaptureWriter}.
+ * A truncated last record, as left by a crash, ends the file quietly.
+ */
+public final class CaptureReader {
+
+    private CaptureReader() {
+    }
+
+    /**
+     * Read a capture file, or every capture file in a directory, ordered by start time.
+     */
+    public static List<CaptureRecord> read(Path path) throws IOException {
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> listing = Files.list(path)) {
+                files = listing.filter(file -> file.getFileName().toString().endsWith(CaptureFormat.EXTENSION))
+                    .sorted()
+                    .toList();
+            }
+        } else {
+            files = List.of(path);
+        }
+
+        List<CaptureRecord> records = new ArrayList<>();
+        for (Path file : files) {
+            readFile(file, records);
+        }
+        records.sort(Comparator.comparingLong(CaptureRecord::startEpochMicros));
+        return records;
+    }
+
+    private static void readFile(Path file, List<CaptureRecord> records) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != CaptureFormat.MAGIC || in.readByte() != CaptureFormat.VERSION) {
+                throw new IOException("Not a capture file: " + file);
+            }
+            long fileStartMicros = in.readLong();
+            List<String> dictionary = new ArrayList<>();
+            while (true) {
+                try {
+                    long start = fileStartMicros + CaptureFormat.unZigZag(CaptureFormat.readVarLong(in));
+                    long duration = CaptureFormat.readVarLong(in);
+                    String method = readString(in, dictionary);
+                    String template = readString(in, dictionary);
+                    int status = (int) CaptureFormat.readVarLong(in);
+                    long pseudonym = in.readLong();
+                    String shape = readString(in, dictionary);
+                    records.add(new CaptureRecord(start, duration, method, template, status, pseudonym, shape));
+                } catch (EOFException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static String readString(DataInputStream in, List<String> dictionary) throws IOException {
+        int index = (int) CaptureFormat.readVarLong(in);
+        if (index > 0) {
+            return dictionary.get(index - 1);
+        }
+        String value = in.readUTF();
+        dictionary.add(value);
+        return value;
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskify.web.capture;
+
+/**
+ * One captured request, without any user data.
+ * @param startEpochMicros wall-clock start of the request
+ * @param durationMicros server-side handling time
+ * @param method HTTP method
+ * @param pathTemplate matched route, e.g. /api/tasks/{id}, or UNMATCHED
+ * @param status response status
+ * @param userPseudonym keyed hash of the authenticated user, 0 when anonymous
+ * @param bodyShape JSON body shape as produced by {@link BodyShape}, empty when there is no body
+ */
+public record CaptureRecord(long startEpochMicros, long durationMicros, String method, String pathTemplate,
+                            int status, long userPseudonym, String bodyShape) {
+}
@@ -0,0 +1,216 @@
+package com.taskify.web.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.taskify.security.Pseudonymizer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Writes capture records to rolling binary files on a background thread.
+ * Request threads only enqueue the raw exchange; user pseudonyms and body shapes are computed
+ * here, so e-mails and body values never reach the disk. When the queue is full the exchange
+ * is dropped and counted.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.capture.enabled", havingValue = "true")
+public class CaptureWriter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CaptureWriter.class);
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final BlockingQueue<Exchange> queue;
+    private final Pseudonymizer pseudonymizer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private DataOutputStream out;
+    private long fileStartMicros;
+    // Orders and separates files rolled within the same millisecond
+    private int fileSequence;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    public CaptureWriter(@Value("${taskify.capture.directory:data/capture}") Path directory,
+                         @Value("${taskify.capture.max-file-size:64MB}") DataSize maxFileSize,
+                         @Value("${taskify.capture.max-files:10}") int maxFiles,
+                         @Value("${taskify.capture.queue-capacity:65536}") int queueCapacity,
+                         @Value("${taskify.capture.pseudonym-key:}") String pseudonymKey,
+                         MeterRegistry meterRegistry) throws GeneralSecurityException {
+        this.directory = directory;
+        this.maxFileBytes = maxFileSize.toBytes();
+        this.maxFiles = maxFiles;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.pseudonymizer = new Pseudonymizer(pseudonymKey);
+        this.writtenCounter = captureCounter(meterRegistry, "written");
+        this.droppedCounter = captureCounter(meterRegistry, "dropped");
+        this.writer = new Thread(this::drainLoop, "traffic-capture");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queue an exchange without blocking.
+     * @param principal authenticated user name, or null
+     * @param body raw JSON request body, or null
+     * @return false if the exchange was dropped
+     */
+    public boolean offer(long startEpochMicros, long durationMicros, String method, String pathTemplate,
+                         int status, String principal, byte[] body) {
+        if (queue.offer(new Exchange(startEpochMicros, durationMicros, method, pathTemplate, status, principal, body))) {
+            return true;
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private static Counter captureCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("taskify.capture.records")
+            .description("Captured request records by outcome")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private void drainLoop() {
+        List<Exchange> batch = new ArrayList<>(1024);
+        try {
+            while (running || !queue.isEmpty()) {
+                Exchange first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, 1023);
+                for (Exchange exchange : batch) {
+                    write(toRecord(exchange));
+                }
+                writtenCounter.increment(batch.size());
+                batch.clear();
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Traffic capture stopped: could not write to {}", directory, e);
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private CaptureRecord toRecord(Exchange exchange) {
+        return new CaptureRecord(exchange.startEpochMicros(), exchange.durationMicros(), exchange.method(),
+            exchange.pathTemplate(), exchange.status(), pseudonym(exchange.principal()),
+            exchange.body() != null ? BodyShape.of(exchange.body()) : "");
+    }
+
+    private long pseudonym(String principal) {
+        if (principal == null) {
+            return 0;
+        }
+        return pseudonymizer.pseudonym(principal);
+    }
+
+    private void write(CaptureRecord record) throws IOException {
+        if (out == null || out.size() >= maxFileBytes) {
+            roll();
+        }
+        CaptureFormat.writeVarLong(out, CaptureFormat.zigZag(record.startEpochMicros() - fileStartMicros));
+        CaptureFormat.writeVarLong(out, record.durationMicros());
+        writeString(record.method());
+        writeString(record.pathTemplate());
+        CaptureFormat.writeVarLong(out, record.status());
+        out.writeLong(record.userPseudonym());
+        writeString(record.bodyShape());
+    }
+
+    private void writeString(String value) throws IOException {
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            CaptureFormat.writeVarLong(out, index);
+            return;
+        }
+        CaptureFormat.writeVarLong(out, 0);
+        out.writeUTF(value);
+        dictionary.put(value, dictionary.size() + 1);
+    }
+
+    private void roll() throws IOException {
+        closeQuietly();
+        Files.createDirectories(directory);
+        long now = System.currentTimeMillis();
+        Path file;
+        do {
+            file = directory.resolve(String.format(Locale.ROOT, "capture-%d-%06d%s", now, fileSequence++,
+                CaptureFormat.EXTENSION));
+        } while (Files.exists(file));
+        out = new DataOutputStream(new BufferedOutputStream(
+            Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), 64 * 1024));
+        fileStartMicros = TimeUnit.MILLISECONDS.toMicros(now);
+        dictionary.clear();
+        out.writeInt(CaptureFormat.MAGIC);
+        out.writeByte(CaptureFormat.VERSION);
+        out.writeLong(fileStartMicros);
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(CaptureFormat.EXTENSION))
+                .sorted()
+                .toList();
+        }
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private void closeQuietly() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("Could not close capture file", e);
+        }
+        out = null;
+    }
+
+    private record Exchange(long startEpochMicros, long durationMicros, String method, String pathTemplate,
+                            int status, String principal, byte[] body) {
+    }
+}
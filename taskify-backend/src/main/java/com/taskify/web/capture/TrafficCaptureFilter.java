@@ -0,0 +1,100 @@
+package com.taskify.web.capture;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Opt-in filter recording an anonymized trace of each API request for later replay.
+ * Only the route template, timing, status, a user pseudonym and the JSON body shape are kept.
+ * Bodies sent to the authentication endpoints are never read, as they carry credentials.
+ */
+@Component
+@ConditionalOnProperty(name = "taskify.capture.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute holding the authenticated user name, set while the security context is populated.
+     */
+    public static final String PRINCIPAL_ATTRIBUTE = TrafficCaptureFilter.class.getName() + ".principal";
+
+    private static final String UNMATCHED = "UNMATCHED";
+    private static final String AUTH_PREFIX = "/api/auth/";
+
+    private final CaptureWriter captureWriter;
+    private final double sampleRate;
+    private final int maxBodyBytes;
+
+    public TrafficCaptureFilter(CaptureWriter captureWriter,
+                                @Value("${taskify.capture.sample-rate:1.0}") double sampleRate,
+                                @Value("${taskify.capture.max-body-bytes:8192}") int maxBodyBytes) {
+        this.captureWriter = captureWriter;
+        this.sampleRate = sampleRate;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Instant start = Instant.now();
+        long startNanos = System.nanoTime();
+        HttpServletRequest captured = hasJsonBody(request)
+            ? new ContentCachingRequestWrapper(request, maxBodyBytes)
+            : request;
+        boolean failed = true;
+        try {
+            filterChain.doFilter(captured, response);
+            failed = false;
+        } finally {
+            long durationMicros = (System.nanoTime() - startNanos) / 1000;
+            Object template = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Object principal = request.getAttribute(PRINCIPAL_ATTRIBUTE);
+            byte[] body = captured instanceof ContentCachingRequestWrapper wrapper
+                ? wrapper.getContentAsByteArray()
+                : null;
+            captureWriter.offer(
+                start.getEpochSecond() * 1_000_000 + start.getNano() / 1000,
+                durationMicros,
+                request.getMethod(),
+                template != null ? template.toString() : UNMATCHED,
+                failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                principal != null ? principal.toString() : null,
+                body);
+        }
+    }
+
+    private boolean hasJsonBody(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null
+            && !request.getRequestURI().startsWith(AUTH_PREFIX)
+            && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)
+            && request.getContentLength() <= maxBodyBytes;
+    }
+}
@@ -19,6 +19,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static com.taskify.web.QueryCountMatchers.queryCount;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -97,6 +98,7 @@ class AppointmentIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(createRequest))
                 .andExpect(status().isCreated())
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.subject").value("Integration Test Appointment"))
                 .andReturn();
 
@@ -110,6 +112,7 @@ class AppointmentIntegrationTest {
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].subject").value("Integration Test Appointment"));
 
@@ -118,6 +121,7 @@ class AppointmentIntegrationTest {
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.id").value(createdAppointmentId))
                 .andExpect(jsonPath("$.subject").value("Integration Test Appointment"));
 
@@ -134,25 +138,29 @@ class AppointmentIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(updateRequest))
                 .andExpect(status().isOk())
+                .andExpect(queryCount(4))
                 .andExpect(jsonPath("$.subject").value("Updated Integration Appointment"));
 
         // ========== ÉTAPE 5: Supprimer le rendez-vous ==========
         mockMvc.perform(delete("/api/appointments/" + createdAppointmentId)
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(queryCount(4));
 
         // ========== ÉTAPE 6: Vérifier que le rendez-vous est supprimé ==========
         mockMvc.perform(get("/api/appointments/" + createdAppointmentId)
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(queryCount(3));
 
         // Vérifier que la liste est vide
         mockMvc.perform(get("/api/appointments")
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
@@ -193,6 +201,8 @@ class AppointmentIntegrationTest {
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                // Autant de requêtes SQL que pour une seule entrée: pas de N+1
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.length()").value(3));
     }
 
@@ -203,7 +213,8 @@ class AppointmentIntegrationTest {
         mockMvc.perform(get("/api/appointments/99999")
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(queryCount(3));
     }
 
     @Test
@@ -265,6 +276,7 @@ class AppointmentIntegrationTest {
                 .header("Authorization", "Bearer " + user2Token)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.length()").value(0));
     }
 }
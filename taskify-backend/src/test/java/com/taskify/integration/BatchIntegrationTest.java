@@ -0,0 +1,171 @@
+package com.taskify.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.repository.AppointmentRepository;
+import com.taskify.repository.TaskRepository;
+import com.taskify.repository.UserRepository;
+
+/**
+ * Tests d'intégration pour l'endpoint batch.
+ * Teste le flux complet: Controller → Service → Repository → Database
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests d'intégration - Batch")
+class BatchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private String jwtToken;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() throws Exception {
+        // Nettoyer la base de données avant chaque test
+        taskRepository.deleteAll();
+        appointmentRepository.deleteAll();
+        userRepository.deleteAll();
+
+        // Créer un utilisateur et obtenir le token JWT
+        String registerRequest = """
+            {
+                "email": "batch@test.com",
+                "password": "password123"
+            }
+            """;
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(registerRequest))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        JsonNode jsonNode = objectMapper.readTree(result.getResponse().getContentAsString());
+        jwtToken = jsonNode.get("token").asText();
+    }
+
+    @Test
+    @DisplayName("Doit exécuter toutes les opérations d'un batch atomique")
+    void shouldExecuteAtomicBatch() throws Exception {
+        String batchRequest = """
+            {
+                "operations": [
+                    {"resource": "TASK", "action": "CREATE", "body": {"title": "Task A", "status": "TODO"}},
+                    {"resource": "TASK", "action": "CREATE", "body": {"title": "Task B"}},
+                    {"resource": "APPOINTMENT", "action": "CREATE",
+                     "body": {"subject": "Planning", "date": "2030-01-15T10:00:00"}}
+                ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/batch")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[1].body.title").value("Task B"))
+                .andExpect(jsonPath("$.results[2].body.subject").value("Planning"));
+
+        assertEquals(2, taskRepository.count());
+        assertEquals(1, appointmentRepository.count());
+    }
+
+    @Test
+    @DisplayName("Doit annuler tout le batch atomique si une opération échoue")
+    void shouldRollBackAtomicBatchOnFailure() throws Exception {
+        String batchRequest = """
+            {
+                "atomic": true,
+                "operations": [
+                    {"resource": "TASK", "action": "CREATE", "body": {"title": "Task A"}},
+                    {"resource": "TASK", "action": "DELETE", "id": 99999},
+                    {"resource": "TASK", "action": "CREATE", "body": {"title": "Task C"}}
+                ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/batch")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(false))
+                .andExpect(jsonPath("$.results[0].status").value(424))
+                .andExpect(jsonPath("$.results[1].status").value(404))
+                .andExpect(jsonPath("$.results[2].status").value(424));
+
+        assertEquals(0, taskRepository.count());
+    }
+
+    @Test
+    @DisplayName("Doit appliquer les opérations valides en mode best-effort")
+    void shouldApplyValidOperationsInBestEffortMode() throws Exception {
+        String batchRequest = """
+            {
+                "atomic": false,
+                "operations": [
+                    {"resource": "TASK", "action": "CREATE", "body": {"title": "Task A"}},
+                    {"resource": "TASK", "action": "CREATE", "body": {"description": "No title"}},
+                    {"resource": "APPOINTMENT", "action": "UPDATE", "id": 99999,
+                     "body": {"subject": "Missing", "date": "2030-01-15T10:00:00"}}
+                ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/batch")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].error").value("Title is required"))
+                .andExpect(jsonPath("$.results[2].status").value(404));
+
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    @DisplayName("Doit refuser un batch vide")
+    void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/batch")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"operations\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+}
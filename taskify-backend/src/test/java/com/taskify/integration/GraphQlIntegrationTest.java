@@ -0,0 +1,206 @@
+package com.taskify.integration;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static com.taskify.web.QueryCountMatchers.queryCount;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.jdbc.QueryCounter;
+import com.taskify.repository.AppointmentRepository;
+import com.taskify.repository.TaskRepository;
+import com.taskify.repository.UserRepository;
+
+/**
+ * Tests d'intégration pour l'API GraphQL.
+ * Vérifie la projection des colonnes, le chargement groupé des champs imbriqués et les limites de coût.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests d'intégration - API GraphQL")
+class GraphQlIntegrationTest {
+
+    private static final String NESTED_QUERY = """
+        {
+          tasks {
+            title
+            owner { email taskCounts { todo done total } appointmentCount }
+          }
+          appointments {
+            subject
+            date
+            owner { email }
+          }
+        }
+        """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private String jwtToken;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() throws Exception {
+        // Nettoyer la base de données avant chaque test
+        taskRepository.deleteAll();
+        appointmentRepository.deleteAll();
+        userRepository.deleteAll();
+
+        jwtToken = register("graphql@test.com");
+    }
+
+    @Test
+    @DisplayName("Doit ne lire que les colonnes des champs demandés")
+    void shouldProjectSelectedFields() throws Exception {
+        // Arrange
+        createTask("Première tâche", "Description");
+        createTask("Deuxième tâche", "Autre description");
+
+        // Act
+        ResultActions result = query("""
+            { tasks(first: 1) { id title } }
+            """);
+
+        // Assert
+        assertThat(IntStream.range(0, QueryCounter.count()).mapToObj(QueryCounter::statement))
+                .anyMatch(sql -> sql.startsWith("SELECT id, title FROM tasks WHERE"));
+        result.andExpect(jsonPath("$.data.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.data.tasks[0].title").value("Première tâche"))
+                .andExpect(jsonPath("$.data.tasks[0].description").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Doit charger les champs imbriqués par lots, sans requête par parent")
+    void shouldBatchNestedFields() throws Exception {
+        // Arrange
+        createTask("Première tâche", null);
+        createAppointment("Dentiste", "2025-03-01T09:00:00");
+
+        // Act & Assert
+        query(NESTED_QUERY)
+                .andExpect(queryCount(7))
+                .andExpect(jsonPath("$.data.tasks[0].owner.email").value("graphql@test.com"))
+                .andExpect(jsonPath("$.data.tasks[0].owner.taskCounts.todo").value(1))
+                .andExpect(jsonPath("$.data.tasks[0].owner.appointmentCount").value(1))
+                .andExpect(jsonPath("$.data.appointments[0].date").value("2025-03-01T09:00:00"));
+
+        // Le nombre de requêtes ne dépend pas du nombre de tâches et de rendez-vous
+        for (int i = 0; i < 5; i++) {
+            createTask("Tâche " + i, null);
+            createAppointment("Rendez-vous " + i, "2025-03-02T10:00:00");
+        }
+        query(NESTED_QUERY)
+                .andExpect(queryCount(7))
+                .andExpect(jsonPath("$.data.tasks", hasSize(6)))
+                .andExpect(jsonPath("$.data.tasks[5].owner.taskCounts.total").value(6))
+                .andExpect(jsonPath("$.data.appointments[5].owner.email").value("graphql@test.com"));
+    }
+
+    @Test
+    @DisplayName("Doit refuser les requêtes trop profondes, trop coûteuses ou mal paginées")
+    void shouldRejectCostlyQueries() throws Exception {
+        // Act & Assert
+        query("""
+            { __schema { types { fields { type { ofType { ofType { name } } } } } } }
+            """)
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andExpect(jsonPath("$.errors[0].message", containsString("depth")));
+        query("""
+            { tasks(first: 1000) { title owner { email taskCounts { total } } } }
+            """)
+                .andExpect(queryCount(1))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andExpect(jsonPath("$.errors[0].message", containsString("complexity")));
+        query("""
+            { tasks(first: 0) { title } }
+            """)
+                .andExpect(jsonPath("$.errors[0].extensions.classification").value("BAD_REQUEST"));
+    }
+
+    @Test
+    @DisplayName("Doit refuser les requêtes sans jeton")
+    void shouldRejectUnauthenticatedQueries() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body("{ me { email } }")))
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions query(String query) throws Exception {
+        return mockMvc.perform(post("/api/graphql")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(query)))
+                .andExpect(status().isOk());
+    }
+
+    private String body(String query) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("query", query));
+    }
+
+    private void createTask(String title, String description) throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(description != null
+                        ? Map.of("title", title, "description", description)
+                        : Map.of("title", title))))
+                .andExpect(status().isCreated());
+    }
+
+    private void createAppointment(String subject, String date) throws Exception {
+        mockMvc.perform(post("/api/appointments")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"subject": "%s", "date": "%s"}
+                    """.formatted(subject, date)))
+                .andExpect(status().isCreated());
+    }
+
+    private String register(String email) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "email": "%s",
+                        "password": "password123"
+                    }
+                    """.formatted(email)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+}
@@ -0,0 +1,223 @@
+package com.taskify.integration;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.grpc.GrpcServer;
+import com.taskify.grpc.TaskChangeFeed;
+import com.taskify.grpc.v1.ExportTasksRequest;
+import com.taskify.grpc.v1.ListTasksRequest;
+import com.taskify.grpc.v1.TaskChange;
+import com.taskify.grpc.v1.TaskId;
+import com.taskify.grpc.v1.TaskRequest;
+import com.taskify.grpc.v1.TaskResponse;
+import com.taskify.grpc.v1.TaskStatus;
+import com.taskify.grpc.v1.TaskifyGrpc;
+import com.taskify.grpc.v1.UpdateTaskRequest;
+import com.taskify.grpc.v1.WatchTasksRequest;
+import com.taskify.repository.AppointmentRepository;
+import com.taskify.repository.TaskRepository;
+import com.taskify.repository.UserRepository;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+
+/**
+ * Tests d'intégration pour l'API gRPC.
+ * Les appels passent par un vrai canal Netty sur le port lié par le serveur gRPC.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests d'intégration - API gRPC")
+class GrpcIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private GrpcServer grpcServer;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private ManagedChannel channel;
+    private TaskifyGrpc.TaskifyBlockingStub stub;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() throws Exception {
+        // Nettoyer la base de données avant chaque test
+        taskRepository.deleteAll();
+        appointmentRepository.deleteAll();
+        userRepository.deleteAll();
+
+        channel = NettyChannelBuilder.forAddress("localhost", grpcServer.port())
+                .usePlaintext()
+                .build();
+        stub = authenticated(TaskifyGrpc.newBlockingStub(channel), register("grpc@test.com"));
+    }
+
+    @SuppressWarnings("unused")
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Doit créer, lire, modifier, lister, exporter et supprimer des tâches")
+    void shouldManageTasks() {
+        // Arrange
+        TaskResponse first = stub.createTask(TaskRequest.newBuilder()
+                .setTitle("Première tâche")
+                .setDescription("Description")
+                .build());
+        TaskResponse second = stub.createTask(TaskRequest.newBuilder().setTitle("Deuxième tâche").build());
+
+        // Act
+        TaskResponse updated = stub.updateTask(UpdateTaskRequest.newBuilder()
+                .setId(second.getId())
+                .setTask(TaskRequest.newBuilder().setTitle("Deuxième tâche").setStatus(TaskStatus.DONE))
+                .build());
+        List<TaskResponse> listed = new ArrayList<>();
+        stub.listTasks(ListTasksRequest.getDefaultInstance()).forEachRemaining(listed::add);
+        List<TaskResponse> exported = new ArrayList<>();
+        stub.exportTasks(ExportTasksRequest.newBuilder().setAfterId(first.getId()).build())
+                .forEachRemaining(exported::add);
+        stub.deleteTask(TaskId.newBuilder().setId(first.getId()).build());
+
+        // Assert
+        assertThat(first.getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(first.getDescription()).isEqualTo("Description");
+        assertThat(second.hasDescription()).isFalse();
+        assertThat(updated.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(listed).extracting(TaskResponse::getTitle)
+                .containsExactlyInAnyOrder("Première tâche", "Deuxième tâche");
+        assertThat(exported).containsExactly(updated);
+        assertThatThrownBy(() -> stub.getTask(TaskId.newBuilder().setId(first.getId()).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Doit refuser les appels sans jeton, les titres vides ou trop longs et les tâches des autres utilisateurs")
+    void shouldRejectInvalidCalls() throws Exception {
+        // Arrange
+        TaskResponse task = stub.createTask(TaskRequest.newBuilder().setTitle("Tâche privée").build());
+        TaskifyGrpc.TaskifyBlockingStub other =
+                authenticated(TaskifyGrpc.newBlockingStub(channel), register("other@test.com"));
+        TaskId taskId = TaskId.newBuilder().setId(task.getId()).build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> TaskifyGrpc.newBlockingStub(channel).getTask(taskId))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        assertThatThrownBy(() -> authenticated(TaskifyGrpc.newBlockingStub(channel), "invalid").getTask(taskId))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        assertThatThrownBy(() -> stub.createTask(TaskRequest.newBuilder().setTitle(" ").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        assertThatThrownBy(() -> stub.createTask(TaskRequest.newBuilder().setTitle("t".repeat(256)).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        assertThatThrownBy(() -> stub.updateTask(UpdateTaskRequest.newBuilder()
+                        .setId(task.getId())
+                        .setTask(TaskRequest.newBuilder().setTitle("Tâche privée").setDescription("d".repeat(501)))
+                        .build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        assertThatThrownBy(() -> other.getTask(taskId))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+        assertThat(other.listTasks(ListTasksRequest.getDefaultInstance()).hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Doit diffuser les modifications de tâches faites par l'API REST")
+    void shouldWatchTaskChanges() throws Exception {
+        // Arrange
+        String token = register("watcher@test.com");
+        Iterator<TaskChange> changes = authenticated(TaskifyGrpc.newBlockingStub(channel), token)
+                .withDeadlineAfter(10, TimeUnit.SECONDS)
+                .watchTasks(WatchTasksRequest.getDefaultInstance());
+        waitForWatchers(1);
+
+        // Act
+        mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title": "Tâche REST"}
+                    """))
+                .andExpect(status().isCreated());
+
+        // Assert
+        TaskChange change = changes.next();
+        assertThat(change.getKind()).isEqualTo(TaskChange.Kind.CREATED);
+        assertThat(change.getTask().getTitle()).isEqualTo("Tâche REST");
+    }
+
+    private void waitForWatchers(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (taskChangeFeed.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(taskChangeFeed.size()).isEqualTo(count);
+    }
+
+    private static TaskifyGrpc.TaskifyBlockingStub authenticated(TaskifyGrpc.TaskifyBlockingStub stub, String token) {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + token);
+        return stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private String register(String email) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "email": "%s",
+                        "password": "password123"
+                    }
+                    """.formatted(email)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+}
@@ -0,0 +1,209 @@
+package com.taskify.integration;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.matchesPattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.model.User;
+import com.taskify.repository.AppointmentRepository;
+import com.taskify.repository.TaskRepository;
+import com.taskify.repository.UserRepository;
+import com.taskify.security.JwtUtil;
+
+/**
+ * Tests d'intégration pour les endpoints de profilage (JFR).
+ * Seuls les utilisateurs de taskify.ops.users y ont accès.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests d'intégration - Profilage JFR")
+class ProfilingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String opsToken;
+    private String userToken;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() throws Exception {
+        // Nettoyer la base de données avant chaque test
+        taskRepository.deleteAll();
+        appointmentRepository.deleteAll();
+        userRepository.deleteAll();
+
+        // ops@test.com a le rôle OPS, dev@test.com non
+        opsToken = register("ops@test.com");
+        userToken = register("dev@test.com");
+    }
+
+    @Test
+    @DisplayName("Doit refuser l'accès aux utilisateurs sans rôle OPS")
+    void shouldRejectUsersWithoutOpsRole() throws Exception {
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/jfr")
+                .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/slowrequests")
+                .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Doit refuser le rôle OPS à une variante de casse d'un e-mail ops")
+    void shouldRejectCaseVariantOfOpsEmail() throws Exception {
+        // Arrange : un compte enregistré avant la normalisation des e-mails
+        userRepository.save(new User("Ops@Test.com", "unused"));
+        String variantToken = jwtUtil.generateToken("Ops@Test.com");
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/jfr")
+                .header("Authorization", "Bearer " + variantToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/heavyusers")
+                .header("Authorization", "Bearer " + variantToken))
+                .andExpect(status().isForbidden());
+
+        // Une nouvelle variante de casse ne peut plus être enregistrée
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"email": "OPS@test.com", "password": "password123"}
+                    """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Doit démarrer, arrêter, télécharger et résumer un enregistrement JFR")
+    void shouldRecordDownloadAndSummarize() throws Exception {
+        // Démarrer
+        MvcResult started = mockMvc.perform(post("/actuator/jfr")
+                .header("Authorization", "Bearer " + opsToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"profile": "profile", "duration": "30s"}
+                    """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andReturn();
+        long id = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asLong();
+
+        // Un seul enregistrement à la fois
+        mockMvc.perform(post("/actuator/jfr")
+                .header("Authorization", "Bearer " + opsToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk());
+
+        // Arrêter avant la fin de la durée
+        mockMvc.perform(post("/actuator/jfr/" + id)
+                .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("CLOSED"))
+                .andExpect(jsonPath("$.sizeBytes").value(greaterThan(0)));
+
+        // Télécharger le fichier .jfr
+        mockMvc.perform(get("/actuator/jfr/" + id)
+                .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_OCTET_STREAM));
+
+        // Résumé JSON
+        mockMvc.perform(get("/actuator/jfr/" + id + "/summary")
+                .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.executionSamples").isNumber())
+                .andExpect(jsonPath("$.hotMethods").isArray())
+                .andExpect(jsonPath("$.allocationsByType").isArray());
+
+        // Supprimer
+        mockMvc.perform(delete("/actuator/jfr/" + id)
+                .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/actuator/jfr/" + id)
+                .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Doit exposer les utilisateurs les plus lourds sous pseudonyme")
+    void shouldExposeHeavyUsersUnderPseudonym() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/tasks")
+                    .header("Authorization", "Bearer " + userToken))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/actuator/heavyusers")
+                .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+
+        // La fenêtre courante est la première; d'autres tests ont pu y ajouter des requêtes
+        mockMvc.perform(get("/actuator/heavyusers")
+                .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].requests").value(greaterThanOrEqualTo(3)))
+                .andExpect(jsonPath("$[0].byRequests[0].user").value(matchesPattern("[0-9a-f]+")))
+                .andExpect(jsonPath("$[0].byRequests[0].value").value(greaterThanOrEqualTo(3.0)))
+                .andExpect(jsonPath("$[0].byDbTime").isArray())
+                .andExpect(jsonPath("$[0].byResponseBytes[0].value").value(greaterThan(0.0)));
+    }
+
+    private String register(String email) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "email": "%s",
+                        "password": "password123"
+                    }
+                    """.formatted(email)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+}
@@ -0,0 +1,170 @@
+package com.taskify.integration;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.reactive.ReactiveReadServer;
+import com.taskify.repository.AppointmentRepository;
+import com.taskify.repository.TaskRepository;
+import com.taskify.repository.UserRepository;
+
+/**
+ * Tests d'intégration pour l'API de lecture réactive (WebFlux + R2DBC).
+ * Les données sont écrites par l'API MVC et relues sur le port réactif.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests d'intégration - API de lecture réactive")
+class ReactiveReadIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private WebTestClient client;
+    private String token;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() throws Exception {
+        // Nettoyer la base de données avant chaque test
+        taskRepository.deleteAll();
+        appointmentRepository.deleteAll();
+        userRepository.deleteAll();
+
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveReadServer.port())
+                .build();
+        token = register("reactive@test.com");
+    }
+
+    @Test
+    @DisplayName("Doit servir la liste, le détail et l'export des tâches comme l'API MVC")
+    void shouldServeTasksLikeMvc() throws Exception {
+        // Arrange
+        long first = createTask(token, "Première tâche");
+        createTask(token, "Deuxième tâche");
+        String mvcList = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Act & Assert - liste identique à celle de l'API MVC
+        String reactiveList = client.get().uri("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+        assertThat(objectMapper.readTree(reactiveList)).isEqualTo(objectMapper.readTree(mvcList));
+
+        // Détail
+        client.get().uri("/api/tasks/{id}", first)
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Première tâche")
+                .jsonPath("$.status").isEqualTo("TODO");
+
+        // Export NDJSON : une tâche par ligne, dans l'ordre des IDs
+        String export = client.get().uri("/api/tasks/export")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+        assertThat(export.lines()).hasSize(2);
+        assertThat(objectMapper.readTree(export.lines().findFirst().orElseThrow()).get("id").asLong())
+                .isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Doit refuser les requêtes sans jeton et cacher les données des autres utilisateurs")
+    void shouldRejectUnauthenticatedAndForeignReads() throws Exception {
+        // Arrange
+        long task = createTask(token, "Tâche privée");
+        String otherToken = register("other@test.com");
+
+        // Act & Assert
+        client.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        client.get().uri("/api/tasks")
+                .header("Authorization", "Bearer invalid")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        client.get().uri("/api/tasks/{id}", task)
+                .header("Authorization", "Bearer " + otherToken)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Task not found or access denied");
+
+        client.get().uri("/api/appointments")
+                .header("Authorization", "Bearer " + otherToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[]");
+    }
+
+    private long createTask(String token, String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title": "%s"}
+                    """.formatted(title)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private String register(String email) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "email": "%s",
+                        "password": "password123"
+                    }
+                    """.formatted(email)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+}
@@ -1,5 +1,11 @@
 package com.taskify.integration;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
@@ -17,13 +23,23 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static com.taskify.web.QueryCountMatchers.maxQueryCount;
+import static com.taskify.web.QueryCountMatchers.queryCount;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.taskify.repository.TaskRepository;
 import com.taskify.repository.UserRepository;
+import com.taskify.web.ResponseEncoder;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 /**
  * Tests d'intégration pour les tâches.
@@ -49,6 +65,9 @@ class TaskIntegrationTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private String jwtToken;
     private Long createdTaskId;
 
@@ -98,6 +117,8 @@ class TaskIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(createRequest))
                 .andExpect(status().isCreated())
+                // +1 quand le pool d'IDs de tasks_seq est épuisé
+                .andExpect(maxQueryCount(4))
                 .andExpect(jsonPath("$.title").value("Integration Test Task"))
                 .andExpect(jsonPath("$.description").value("Task created during integration test"))
                 .andExpect(jsonPath("$.status").value("TODO"))
@@ -113,6 +134,7 @@ class TaskIntegrationTest {
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].title").value("Integration Test Task"));
 
@@ -121,6 +143,7 @@ class TaskIntegrationTest {
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.id").value(createdTaskId))
                 .andExpect(jsonPath("$.title").value("Integration Test Task"));
 
@@ -138,6 +161,7 @@ class TaskIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(updateRequest))
                 .andExpect(status().isOk())
+                .andExpect(queryCount(4))
                 .andExpect(jsonPath("$.title").value("Updated Integration Task"))
                 .andExpect(jsonPath("$.description").value("Updated description"))
                 .andExpect(jsonPath("$.status").value("DONE"));
@@ -146,19 +170,22 @@ class TaskIntegrationTest {
         mockMvc.perform(delete("/api/tasks/" + createdTaskId)
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(queryCount(4));
 
         // ========== ÉTAPE 6: Vérifier que la tâche est supprimée ==========
         mockMvc.perform(get("/api/tasks/" + createdTaskId)
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(queryCount(3));
 
         // Vérifier que la liste est vide
         mockMvc.perform(get("/api/tasks")
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
@@ -197,6 +224,8 @@ class TaskIntegrationTest {
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                // Autant de requêtes SQL que pour une seule entrée: pas de N+1
+                .andExpect(queryCount(3))
                 .andExpect(jsonPath("$.length()").value(3));
     }
 
@@ -207,7 +236,8 @@ class TaskIntegrationTest {
         mockMvc.perform(get("/api/tasks/99999")
                 .header("Authorization", "Bearer " + jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(queryCount(3));
     }
 
     @Test
@@ -227,4 +257,235 @@ class TaskIntegrationTest {
                 .content(invalidRequest))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @Order(6)
+    @DisplayName("Doit rejouer la création pour une Idempotency-Key déjà utilisée")
+    void shouldReplayCreateForRepeatedIdempotencyKey() throws Exception {
+        String createRequest = """
+            {
+                "title": "Idempotent Task",
+                "status": "TODO"
+            }
+            """;
+
+        MvcResult first = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createRequest))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long firstId = objectMapper.readTree(first.getResponse().getContentAsString()).get("id").asLong();
+
+        // Le retry renvoie la même tâche sans en créer une nouvelle
+        mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createRequest))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(firstId));
+
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(3))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Doit chronométrer le filtre JWT, le service, le repository et le SQL")
+    void shouldTimeFilterServiceAndRepository() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        Timer service = meterRegistry.find("taskify.service")
+                .tag("class", "com.taskify.service.TaskService")
+                .tag("method", "getAllTasksForUser")
+                .timer();
+        Timer repository = meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "TaskRepository")
+                .timer();
+        Timer filter = meterRegistry.find("taskify.security.jwt.filter")
+                .tag("outcome", "authenticated")
+                .timer();
+
+        assertNotNull(service);
+        assertTrue(service.count() >= 1);
+        assertNotNull(repository);
+        assertNotNull(filter);
+        assertTrue(filter.count() >= 1);
+        assertNotNull(meterRegistry.find("taskify.jdbc.statements").tag("table", "tasks").timer());
+        assertNotNull(meterRegistry.find("hikaricp.connections.pending").gauge());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Doit renvoyer Server-Timing uniquement sur demande")
+    void shouldReturnServerTimingOnlyWhenRequested() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Timed Task\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Server-Timing"))
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        String phases = "jwt;dur=[0-9.]+, user;dur=[0-9.]+, db;dur=[0-9.]+, serialize;dur=[0-9.]+, total;dur=[0-9.]+";
+        MvcResult single = mockMvc.perform(get("/api/tasks/" + id)
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("X-Server-Timing", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(phases)))
+                .andExpect(jsonPath("$.title").value("Timed Task"))
+                .andReturn();
+        assertPhasesWithinTotal(single.getResponse().getHeader("Server-Timing"));
+
+        MvcResult list = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("X-Server-Timing", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(phases)))
+                .andReturn();
+        assertPhasesWithinTotal(list.getResponse().getHeader("Server-Timing"));
+    }
+
+    /**
+     * Les phases ne se recouvrent pas: leur somme ne dépasse pas le total, à l'arrondi près.
+     */
+    private static void assertPhasesWithinTotal(String serverTiming) {
+        double phases = 0;
+        double total = 0;
+        for (String metric : serverTiming.split(", ")) {
+            double millis = Double.parseDouble(metric.substring(metric.indexOf("dur=") + 4));
+            if (metric.startsWith("total;")) {
+                total = millis;
+            } else {
+                phases += millis;
+            }
+        }
+        assertTrue(phases <= total + 0.05, serverTiming);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Doit exposer les requêtes lentes avec leur détail SQL")
+    void shouldExposeSlowRequestsWithStatements() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk());
+
+        // integration@test.com a le rôle OPS (taskify.ops.users)
+        mockMvc.perform(get("/actuator/slowrequests")
+                .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                // Seules les K plus lentes de la fenêtre sont gardées: la requête ci-dessus peut en être absente
+                .andExpect(jsonPath("$[0].slowest").isNotEmpty())
+                .andExpect(jsonPath("$[0].slowest[0].uri").value(startsWith("/api/")))
+                .andExpect(jsonPath("$[0].slowest[0].totalMillis").isNumber())
+                .andExpect(jsonPath("$[0].slowest[0].statements").isArray());
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Doit mesurer les octets alloués par requête et par ligne lue")
+    void shouldRecordAllocatedBytesPerRequest() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title": "Allocation Task", "status": "TODO"}
+                    """))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk());
+
+        DistributionSummary allocated = meterRegistry.find("taskify.http.allocated")
+                .tag("method", "GET")
+                .tag("uri", "/api/tasks")
+                .summary();
+        DistributionSummary perRow = meterRegistry.find("taskify.http.allocated.per.row")
+                .tag("method", "GET")
+                .tag("uri", "/api/tasks")
+                .summary();
+
+        assertNotNull(allocated);
+        assertTrue(allocated.count() >= 1);
+        assertTrue(allocated.totalAmount() > 0);
+        assertNotNull(perRow);
+        assertTrue(perRow.max() > 0);
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Doit annoncer le budget de requêtes restant par utilisateur")
+    void shouldSendRateLimitHeaders() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "100"))
+                .andExpect(header().string("RateLimit-Remaining", "99"))
+                .andExpect(header().exists("RateLimit-Reset"));
+
+        // Les requêtes anonymes ne sont pas limitées par utilisateur
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isForbidden())
+                .andExpect(header().doesNotExist("RateLimit-Limit"));
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Doit négocier CBOR et Smile via Accept avec les mêmes champs qu'en JSON")
+    void shouldNegotiateBinaryFormats() throws Exception {
+        // Arrange
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title": "Binary task", "description": "Encoded three ways"}
+                    """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        JsonNode json = objectMapper.readTree(mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andReturn().getResponse().getContentAsByteArray());
+
+        // Act & Assert - liste en CBOR et en Smile
+        byte[] cbor = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("Accept", "application/json;q=0.5, application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(json, new CBORMapper().readTree(cbor));
+
+        byte[] smile = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .accept(ResponseEncoder.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", ResponseEncoder.APPLICATION_SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(json, new SmileMapper().readTree(smile));
+
+        // Les autres réponses passent par les convertisseurs de messages
+        byte[] task = mockMvc.perform(get("/api/tasks/" + id)
+                .header("Authorization", "Bearer " + jwtToken)
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(json.get(0), new CBORMapper().readTree(task));
+    }
 }
@@ -0,0 +1,195 @@
+package com.taskify.integration;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.model.Task;
+import com.taskify.repository.AppointmentRepository;
+import com.taskify.repository.TaskRepository;
+import com.taskify.repository.UserRepository;
+import com.taskify.service.TaskWriteBehindService;
+
+/**
+ * Tests d'intégration pour la création asynchrone de tâches (write-behind).
+ * Teste le flux complet: Controller → File d'attente → JDBC batch → Database
+ */
+@SpringBootTest(properties = {
+    "taskify.tasks.write-behind.enabled=true",
+    "taskify.tasks.write-behind.log-path=target/write-behind-test.log"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests d'intégration - Write-behind")
+class TaskWriteBehindIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private TaskWriteBehindService taskWriteBehindService;
+
+    private String jwtToken;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() throws Exception {
+        // Nettoyer la base de données avant chaque test
+        taskRepository.deleteAll();
+        appointmentRepository.deleteAll();
+        userRepository.deleteAll();
+
+        // Créer un utilisateur et obtenir le token JWT
+        String registerRequest = """
+            {
+                "email": "writebehind@test.com",
+                "password": "password123"
+            }
+            """;
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(registerRequest))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        JsonNode jsonNode = objectMapper.readTree(result.getResponse().getContentAsString());
+        jwtToken = jsonNode.get("token").asText();
+    }
+
+    @Test
+    @DisplayName("Doit accepter la tâche avec 202 puis la persister")
+    void shouldAcceptTaskAndPersistItLater() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Async task\", \"description\": \"Queued\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.title").value("Async task"))
+                .andExpect(jsonPath("$.status").value("TODO"))
+                .andReturn();
+
+        long id = objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+        assertEquals("/api/tasks/" + id, result.getResponse().getHeader("Location"));
+
+        // La tâche est écrite par le thread d'écriture en arrière-plan
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (taskRepository.findById(id).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Task task = taskRepository.findById(id).orElseThrow();
+        assertEquals("Async task", task.getTitle());
+        assertEquals("Queued", task.getDescription());
+    }
+
+    @Test
+    @DisplayName("Doit créer la tâche de façon synchrone sans l'en-tête Prefer")
+    void shouldCreateSynchronouslyWithoutPreferHeader() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Sync task\"}"))
+                .andExpect(status().isCreated());
+
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    @DisplayName("Doit refuser avec 400 une tâche trop longue au lieu de l'accepter puis la perdre")
+    void shouldRejectOversizedTaskBeforeAccepting() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("title", "t".repeat(256)))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("title", "Titre", "description", "d".repeat(501)))))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(0, taskRepository.count());
+    }
+
+    @Test
+    @DisplayName("Ne doit pas rejouer au redémarrage une tâche déjà persistée puis modifiée ou supprimée")
+    void shouldNotReplaySettledTasksOnRestart() throws Exception {
+        // Arrange
+        long updatedId = createAsync("À modifier");
+        long deletedId = createAsync("À supprimer");
+        awaitPersisted(updatedId);
+        awaitPersisted(deletedId);
+        mockMvc.perform(put("/api/tasks/" + updatedId)
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Modifiée\", \"status\": \"DONE\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tasks/" + deletedId)
+                .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNoContent());
+
+        // Act : redémarrage, qui relit le journal local
+        taskWriteBehindService.stop();
+        taskWriteBehindService.start();
+
+        // Assert
+        assertTrue(taskRepository.findById(deletedId).isEmpty());
+        Task updated = taskRepository.findById(updatedId).orElseThrow();
+        assertEquals("Modifiée", updated.getTitle());
+        assertEquals("DONE", updated.getStatus().name());
+    }
+
+    private long createAsync(String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("title", title))))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private void awaitPersisted(long id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (taskRepository.findById(id).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
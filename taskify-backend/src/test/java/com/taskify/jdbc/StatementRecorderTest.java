@@ -0,0 +1,116 @@
+package com.taskify.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitaires pour StatementRecorder et StatementMetricsDataSource.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - Métriques JDBC")
+class StatementRecorderTest {
+
+    private SimpleMeterRegistry registry;
+    private StatementMetricsDataSource dataSource;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        DriverManagerDataSource target = new DriverManagerDataSource(
+            "jdbc:h2:mem:jdbc-metrics-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource = new StatementMetricsDataSource(target,
+            new StatementRecorder(registry, Duration.ofMillis(100), 0.1));
+    }
+
+    @Test
+    @DisplayName("describe() - Doit extraire l'opération et la table principale")
+    void describe_ShouldExtractOperationAndTable() {
+        assertArrayEquals(new String[] {"select", "tasks"},
+            StatementRecorder.describe("select t1_0.id from tasks t1_0 where t1_0.user_id=?"));
+        assertArrayEquals(new String[] {"insert", "appointments"},
+            StatementRecorder.describe("insert into appointments (date,subject) values (?,?)"));
+        assertArrayEquals(new String[] {"merge", "tasks"},
+            StatementRecorder.describe("MERGE INTO tasks (id) KEY (id) VALUES (?)"));
+        assertArrayEquals(new String[] {"call", "none"}, StatementRecorder.describe("call next value"));
+    }
+
+    @Test
+    @DisplayName("Doit chronométrer les requêtes et compter les lignes lues et écrites")
+    void shouldTimeStatementsAndCountRows() throws Exception {
+        // Arrange
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table tasks (id bigint primary key, title varchar(100))");
+            }
+
+            // Act
+            try (PreparedStatement insert = connection.prepareStatement("insert into tasks (id, title) values (?, ?)")) {
+                for (long id = 1; id <= 3; id++) {
+                    insert.setLong(1, id);
+                    insert.setString(2, "Task " + id);
+                    insert.executeUpdate();
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement("select id from tasks where id > ?")) {
+                select.setLong(1, 1);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getLong(1);
+                    }
+                }
+            }
+        }
+
+        // Assert
+        Timer inserts = registry.find("taskify.jdbc.statements")
+            .tags("operation", "insert", "table", "tasks", "outcome", "success").timer();
+        Timer selects = registry.find("taskify.jdbc.statements")
+            .tags("operation", "select", "table", "tasks", "outcome", "success").timer();
+        DistributionSummary selectedRows = registry.find("taskify.jdbc.rows")
+            .tags("operation", "select", "table", "tasks").summary();
+        assertNotNull(inserts);
+        assertEquals(3, inserts.count());
+        assertNotNull(selects);
+        assertEquals(1, selects.count());
+        assertNotNull(selectedRows);
+        assertEquals(2.0, selectedRows.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Doit compter les requêtes en échec séparément")
+    void shouldCountFailedStatements() throws Exception {
+        // Arrange
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+
+            // Act
+            try {
+                statement.executeQuery("select * from missing_table");
+            } catch (java.sql.SQLException expected) {
+                // attendu: la table n'existe pas
+            }
+        }
+
+        // Assert
+        Timer errors = registry.find("taskify.jdbc.statements")
+            .tags("table", "missing_table", "outcome", "error").timer();
+        assertNotNull(errors);
+        assertEquals(1, errors.count());
+    }
+}
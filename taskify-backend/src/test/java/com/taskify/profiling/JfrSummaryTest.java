@@ -0,0 +1,62 @@
+package com.taskify.profiling;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.taskify.profiling.JfrSummary.Entry;
+import com.taskify.profiling.JfrSummary.Summary;
+
+import jdk.jfr.Recording;
+
+/**
+ * Tests unitaires pour JfrSummary.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - JfrSummary")
+class JfrSummaryTest {
+
+    @TempDir
+    Path directory;
+
+    private static volatile Object sink;
+
+    @Test
+    @DisplayName("summarize() - Doit retrouver la méthode chaude et les allocations")
+    void summarize_ShouldFindHotMethodAndAllocations() throws Exception {
+        // Arrange
+        Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(10));
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", "1000/s");
+            recording.start();
+            burnCpuAndAllocate(Duration.ofSeconds(1));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Act
+        Summary summary = JfrSummary.summarize(file, 10);
+
+        // Assert
+        assertTrue(Files.size(file) > 0);
+        assertTrue(summary.executionSamples() > 0);
+        assertTrue(summary.hotApplicationMethods().stream()
+            .map(Entry::name)
+            .anyMatch(name -> name.endsWith("JfrSummaryTest.burnCpuAndAllocate")));
+        assertTrue(summary.allocatedBytes() > 0);
+        assertTrue(summary.allocationsByType().stream().anyMatch(entry -> entry.name().equals("byte[]")));
+    }
+
+    private static void burnCpuAndAllocate(Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() < deadline) {
+            sink = new byte[1024];
+        }
+    }
+}
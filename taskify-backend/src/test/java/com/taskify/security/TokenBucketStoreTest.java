@@ -0,0 +1,90 @@
+package com.taskify.security;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.taskify.security.TokenBucketStore.Decision;
+
+/**
+ * Tests unitaires pour TokenBucketStore.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - TokenBucketStore")
+class TokenBucketStoreTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("tryAcquire() - Doit autoriser la rafale puis refuser jusqu'au prochain jeton")
+    void tryAcquire_ShouldAllowBurstThenRefill() {
+        // Arrange: 2 requêtes/s, rafale de 3
+        TokenBucketStore store = new TokenBucketStore(2, 3, 100);
+        long now = 1_000 * SECOND;
+
+        // Act
+        Decision first = store.tryAcquire(1L, now);
+        store.tryAcquire(1L, now);
+        Decision third = store.tryAcquire(1L, now);
+        Decision rejected = store.tryAcquire(1L, now);
+        Decision otherUser = store.tryAcquire(2L, now);
+        Decision refilled = store.tryAcquire(1L, now + SECOND / 2);
+
+        // Assert
+        assertTrue(first.allowed());
+        assertEquals(2, first.remaining());
+        assertTrue(third.allowed());
+        assertEquals(0, third.remaining());
+        assertFalse(rejected.allowed());
+        assertEquals(SECOND / 2, rejected.retryAfterNanos());
+        assertTrue(otherUser.allowed());
+        assertTrue(refilled.allowed());
+    }
+
+    @Test
+    @DisplayName("tryAcquire() - Ne doit jamais dépasser la rafale sous accès concurrents")
+    void tryAcquire_ShouldNotOveradmitUnderContention() throws Exception {
+        // Arrange: débit quasi nul, seule la rafale de 50 peut passer
+        TokenBucketStore store = new TokenBucketStore(0.001, 50, 100);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                if (store.tryAcquire(7L).allowed()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(50, allowed.get());
+        assertEquals(1, store.exhausted());
+    }
+
+    @Test
+    @DisplayName("tryAcquire() - Doit borner le nombre d'utilisateurs suivis")
+    void tryAcquire_ShouldBoundTrackedUsers() {
+        // Arrange
+        TokenBucketStore store = new TokenBucketStore(1, 5, 100);
+        long now = 1_000 * SECOND;
+
+        // Act
+        for (long user = 0; user < 1_000; user++) {
+            store.tryAcquire(user, now);
+        }
+
+        // Assert
+        assertTrue(store.size() <= 101);
+    }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.taskify.model.Appointment;
 import com.taskify.model.User;
@@ -38,6 +39,9 @@ class AppointmentServiceTest {
     @Mock
     private AppointmentRepository appointmentRepository;
 
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private AppointmentService appointmentService;
 
@@ -132,6 +136,22 @@ class AppointmentServiceTest {
         verify(appointmentRepository).findByIdAndUser(99L, testUser);
     }
 
+    // ==================== Tests pour findAppointmentById() ====================
+
+    @Test
+    @DisplayName("findAppointmentById() - Doit retourner un Optional vide sans exception si le rendez-vous n'existe pas")
+    void findAppointmentById_ShouldReturnEmpty_WhenAppointmentNotFound() {
+        // Arrange
+        when(appointmentRepository.findByIdAndUser(99L, testUser)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<Appointment> result = appointmentService.findAppointmentById(99L, testUser);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(appointmentRepository).findByIdAndUser(99L, testUser);
+    }
+
     // ==================== Tests pour createAppointment() ====================
 
     @Test
@@ -156,6 +176,7 @@ class AppointmentServiceTest {
         assertEquals(date, result.getDate());
         assertEquals(testUser, result.getUser());
         verify(appointmentRepository).save(any(Appointment.class));
+        verify(events).publishEvent((Object) new AppointmentChangedEvent(1L, 1L));
     }
 
     // ==================== Tests pour updateAppointment() ====================
@@ -179,6 +200,7 @@ class AppointmentServiceTest {
         assertEquals(newDate, result.getDate());
         verify(appointmentRepository).findByIdAndUser(1L, testUser);
         verify(appointmentRepository).save(any(Appointment.class));
+        verify(events).publishEvent((Object) new AppointmentChangedEvent(1L, 1L));
     }
 
     @Test
@@ -229,6 +251,7 @@ class AppointmentServiceTest {
         // Assert
         verify(appointmentRepository).findByIdAndUser(1L, testUser);
         verify(appointmentRepository).delete(testAppointment);
+        verify(events).publishEvent((Object) new AppointmentChangedEvent(1L, 1L));
     }
 
     @Test
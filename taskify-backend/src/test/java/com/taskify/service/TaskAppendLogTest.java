@@ -0,0 +1,170 @@
+package com.taskify.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.taskify.model.TaskStatus;
+import com.taskify.service.TaskWriteBehindService.PendingTask;
+
+/**
+ * Tests unitaires pour TaskAppendLog.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - TaskAppendLog")
+class TaskAppendLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("recover() - Doit relire les tâches journalisées dans l'ordre")
+    void recover_ShouldReturnLoggedTasksInOrder() throws IOException {
+        // Arrange
+        Path path = directory.resolve("tasks.log");
+        try (TaskAppendLog log = new TaskAppendLog(path, false)) {
+            log.append(new PendingTask(1L, "First", "Desc", TaskStatus.TODO, 7L));
+            log.append(new PendingTask(2L, "Second", null, TaskStatus.DONE, 7L));
+        }
+
+        // Act
+        List<PendingTask> recovered;
+        try (TaskAppendLog log = new TaskAppendLog(path, false)) {
+            recovered = tasks(log.recover());
+        }
+
+        // Assert
+        assertEquals(2, recovered.size());
+        assertEquals("First", recovered.get(0).title());
+        assertEquals("Second", recovered.get(1).title());
+        assertNull(recovered.get(1).description());
+        assertEquals(TaskStatus.DONE, recovered.get(1).status());
+    }
+
+    @Test
+    @DisplayName("recover() - Doit ignorer un enregistrement tronqué en fin de fichier")
+    void recover_ShouldDropTornTrailingRecord() throws IOException {
+        // Arrange
+        Path path = directory.resolve("tasks.log");
+        try (TaskAppendLog log = new TaskAppendLog(path, false)) {
+            log.append(new PendingTask(1L, "Complete", null, TaskStatus.TODO, 7L));
+        }
+        long intactSize = Files.size(path);
+        Files.write(path, new byte[] {0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+
+        // Act
+        List<TaskAppendLog.Entry> recovered;
+        try (TaskAppendLog log = new TaskAppendLog(path, false)) {
+            recovered = log.recover();
+        }
+
+        // Assert
+        assertEquals(1, recovered.size());
+        assertEquals(intactSize, Files.size(path));
+    }
+
+    @Test
+    @DisplayName("settle() - Doit vider le journal quand toutes les tâches sont réglées")
+    void settle_ShouldEmptyLog_WhenEveryTaskIsSettled() throws IOException {
+        // Arrange
+        Path path = directory.resolve("tasks.log");
+        try (TaskAppendLog log = new TaskAppendLog(path, true)) {
+            long sequence = log.append(new PendingTask(1L, "Task", null, TaskStatus.TODO, 7L));
+
+            // Act
+            log.settle(List.of(sequence));
+        }
+
+        // Assert
+        assertEquals(0, Files.size(path));
+        try (TaskAppendLog log = new TaskAppendLog(path, false)) {
+            assertTrue(log.recover().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("recover() - Ne doit pas rejouer les tâches réglées, même dans le désordre")
+    void recover_ShouldSkipSettledTasks() throws IOException {
+        // Arrange
+        Path path = directory.resolve("tasks.log");
+        try (TaskAppendLog log = new TaskAppendLog(path, false)) {
+            long first = log.append(new PendingTask(1L, "First", null, TaskStatus.TODO, 7L));
+            log.append(new PendingTask(2L, "Second", null, TaskStatus.TODO, 7L));
+            long third = log.append(new PendingTask(3L, "Third", null, TaskStatus.TODO, 7L));
+
+            // Act : la deuxième tâche reste en attente, par exemple après une erreur transitoire
+            log.settle(List.of(third));
+            log.settle(List.of(first));
+        }
+
+        // Assert
+        try (TaskAppendLog log = new TaskAppendLog(path, false)) {
+            List<TaskAppendLog.Entry> recovered = log.recover();
+            assertEquals(1, recovered.size());
+            assertEquals(2L, recovered.get(0).task().id());
+            assertEquals(2L, recovered.get(0).sequence());
+            // Les numéros continuent après ceux déjà utilisés
+            assertEquals(4L, log.append(new PendingTask(4L, "Fourth", null, TaskStatus.TODO, 7L)));
+        }
+    }
+
+    @Test
+    @DisplayName("settle() - Doit compacter le journal sous un trafic continu")
+    void settle_ShouldCompactLog_UnderSteadyTraffic() throws IOException {
+        // Arrange
+        Path path = directory.resolve("tasks.log");
+        try (TaskAppendLog log = new TaskAppendLog(path, false, 4096)) {
+            long pending = log.append(new PendingTask(0L, "Pending", null, TaskStatus.TODO, 7L));
+
+            // Act : une tâche reste toujours en attente, le journal n'est donc jamais vide
+            for (long id = 1; id <= 1000; id++) {
+                long sequence = log.append(new PendingTask(id, "Task " + id, "Description", TaskStatus.TODO, 7L));
+                log.settle(List.of(sequence));
+            }
+
+            // Assert
+            assertTrue(log.size() < 8192, "log size " + log.size());
+            assertEquals(1, pending);
+        }
+        try (TaskAppendLog log = new TaskAppendLog(path, false)) {
+            List<TaskAppendLog.Entry> recovered = log.recover();
+            assertEquals(1, recovered.size());
+            assertEquals("Pending", recovered.get(0).task().title());
+        }
+    }
+
+    @Test
+    @DisplayName("sync() - Doit numéroter les enregistrements et couvrir les précédents en un seul fsync")
+    void sync_ShouldCoverEarlierRecords() throws IOException {
+        // Arrange
+        Path path = directory.resolve("tasks.log");
+        try (TaskAppendLog log = new TaskAppendLog(path, true)) {
+            long first = log.append(new PendingTask(1L, "First", null, TaskStatus.TODO, 7L));
+            long second = log.append(new PendingTask(2L, "Second", null, TaskStatus.TODO, 7L));
+
+            // Act
+            log.sync(second);
+            log.sync(first);
+
+            // Assert
+            assertEquals(1, first);
+            assertEquals(2, second);
+        }
+        try (TaskAppendLog log = new TaskAppendLog(path, false)) {
+            assertEquals(2, log.recover().size());
+        }
+    }
+
+    private static List<PendingTask> tasks(List<TaskAppendLog.Entry> entries) {
+        return entries.stream().map(TaskAppendLog.Entry::task).toList();
+    }
+}
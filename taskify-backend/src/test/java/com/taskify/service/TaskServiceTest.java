@@ -20,6 +20,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.taskify.model.Task;
 import com.taskify.model.TaskStatus;
@@ -38,6 +39,9 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -130,6 +134,22 @@ class TaskServiceTest {
         verify(taskRepository).findByIdAndUser(99L, testUser);
     }
 
+    // ==================== Tests pour findTaskById() ====================
+
+    @Test
+    @DisplayName("findTaskById() - Doit retourner un Optional vide sans exception si la tâche n'existe pas")
+    void findTaskById_ShouldReturnEmpty_WhenTaskNotFound() {
+        // Arrange
+        when(taskRepository.findByIdAndUser(99L, testUser)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<Task> result = taskService.findTaskById(99L, testUser);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(taskRepository).findByIdAndUser(99L, testUser);
+    }
+
     // ==================== Tests pour createTask() ====================
 
     @Test
@@ -156,6 +176,8 @@ class TaskServiceTest {
         assertEquals(status, result.getStatus());
         assertEquals(testUser, result.getUser());
         verify(taskRepository).save(any(Task.class));
+        verify(events).publishEvent((Object) new TaskChangedEvent(TaskChangedEvent.Kind.CREATED, 1L,
+            new TaskChangedEvent.Snapshot(1L, title, description, status)));
     }
 
     @Test
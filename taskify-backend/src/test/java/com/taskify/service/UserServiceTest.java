@@ -64,7 +64,7 @@ class UserServiceTest {
         String password = "password123";
         String encodedPassword = "encodedPassword123";
         
-        when(userRepository.existsByEmail(email)).thenReturn(false);
+        when(userRepository.existsByEmailIgnoreCase(email)).thenReturn(false);
         when(passwordEncoder.encode(password)).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
             User user = invocation.getArgument(0);
@@ -79,11 +79,26 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(email, result.getEmail());
         assertEquals(encodedPassword, result.getPassword());
-        verify(userRepository).existsByEmail(email);
+        verify(userRepository).existsByEmailIgnoreCase(email);
         verify(passwordEncoder).encode(password);
         verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("register() - Doit enregistrer l'email en minuscules")
+    void register_ShouldNormalizeEmail() {
+        // Arrange
+        when(userRepository.existsByEmailIgnoreCase("newuser@example.com")).thenReturn(false);
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword123");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        User result = userService.register(" NewUser@Example.com ", "password123");
+
+        // Assert
+        assertEquals("newuser@example.com", result.getEmail());
+    }
+
     @Test
     @DisplayName("register() - Doit échouer si l'email existe déjà")
     void register_ShouldThrowException_WhenEmailAlreadyExists() {
@@ -91,14 +106,14 @@ class UserServiceTest {
         String email = "existing@example.com";
         String password = "password123";
         
-        when(userRepository.existsByEmail(email)).thenReturn(true);
+        when(userRepository.existsByEmailIgnoreCase(email)).thenReturn(true);
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, 
             () -> userService.register(email, password));
         
         assertEquals("Email already exists", exception.getMessage());
-        verify(userRepository).existsByEmail(email);
+        verify(userRepository).existsByEmailIgnoreCase(email);
         verify(userRepository, never()).save(any(User.class));
     }
 
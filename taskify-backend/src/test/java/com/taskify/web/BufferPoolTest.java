@@ -0,0 +1,39 @@
+package com.taskify.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour BufferPool.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - BufferPool")
+class BufferPoolTest {
+
+    @Test
+    @DisplayName("release() - Doit garder les petits tampons et écarter ceux dont le tableau a trop grandi")
+    void release_ShouldDropBuffersByCapacity() {
+        // Arrange
+        BufferPool pool = new BufferPool(4, 64 << 10);
+        BufferPool.Buffer small = pool.acquire();
+        small.write(new byte[1000], 0, 1000);
+        BufferPool.Buffer grown = pool.acquire();
+        // Le tableau dépasse 64 KiB, alors que size() retombe à 0 après reset()
+        grown.write(new byte[40 << 10], 0, 40 << 10);
+        grown.write(new byte[30 << 10], 0, 30 << 10);
+        grown.reset();
+
+        // Act
+        pool.release(small);
+        pool.release(grown);
+
+        // Assert
+        BufferPool.Buffer reused = pool.acquire();
+        assertSame(small, reused);
+        assertEquals(0, reused.size());
+        assertNotSame(grown, pool.acquire());
+    }
+}
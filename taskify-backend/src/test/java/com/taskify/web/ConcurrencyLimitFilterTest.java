@@ -0,0 +1,70 @@
+package com.taskify.web;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * Tests unitaires pour ConcurrencyLimitFilter.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - ConcurrencyLimitFilter")
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    @DisplayName("doFilter() - Doit rejeter en 503 au-delà de la limite, sauf la voie prioritaire")
+    void doFilter_ShouldShedAboveLimitExceptPriorityLane() throws Exception {
+        // Arrange: limite fixe de 1, une requête occupe la place
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 1, 1, 1000, 1.0, Duration.ofSeconds(2),
+            registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> first = executor.submit(() -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(), blocking);
+            return null;
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // Act
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), shed, new MockFilterChain());
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), login, new MockFilterChain());
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), health, new MockFilterChain());
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert
+        assertEquals(503, shed.getStatus());
+        assertEquals("2", shed.getHeader("Retry-After"));
+        assertEquals(200, login.getStatus());
+        assertEquals(200, health.getStatus());
+        assertEquals(1.0, registry.get("taskify.concurrency.rejected").tag("lane", "api").counter().count());
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskify.web;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour GradientLimit.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - GradientLimit")
+class GradientLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("onSample() - Doit augmenter la limite tant que la latence reste stable")
+    void onSample_ShouldGrowWhileLatencyIsStable() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(20, 4, 200, 600);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(RTT, limit.limit(), false);
+        }
+
+        // Assert
+        assertTrue(limit.limit() > 20);
+    }
+
+    @Test
+    @DisplayName("onSample() - Doit réduire la limite quand la latence augmente ou en cas d'erreur")
+    void onSample_ShouldShrinkWhenLatencyGrowsOrRequestsFail() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(100, 4, 200, 600);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, 100, false);
+        }
+        int before = limit.limit();
+
+        // Act: la latence quadruple, les requêtes font la queue
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(4 * RTT, limit.limit(), false);
+        }
+        int afterQueueing = limit.limit();
+        limit.onSample(RTT, afterQueueing, true);
+
+        // Assert
+        assertTrue(afterQueueing < before);
+        assertTrue(limit.limit() < afterQueueing);
+    }
+
+    @Test
+    @DisplayName("onSample() - Ne doit pas augmenter la limite sans charge suffisante")
+    void onSample_ShouldNotGrowWhenUnderused() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(20, 4, 200, 600);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(RTT, 2, false);
+        }
+
+        // Assert
+        assertEquals(20, limit.limit());
+    }
+}
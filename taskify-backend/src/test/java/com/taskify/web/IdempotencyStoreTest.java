@@ -0,0 +1,160 @@
+package com.taskify.web;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.taskify.exception.InvalidRequestException;
+
+/**
+ * Tests unitaires pour IdempotencyStore.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - IdempotencyStore")
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(Duration.ofHours(1), 100);
+
+    @Test
+    @DisplayName("execute() - Doit rejouer la réponse pour une clé déjà utilisée")
+    void execute_ShouldReplayResponse_WhenKeyReused() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        ResponseEntity<?> first = store.execute(1L, "key-1", "payload",
+            () -> ResponseEntity.status(HttpStatus.CREATED).body(executions.incrementAndGet()));
+        ResponseEntity<?> second = store.execute(1L, "key-1", "payload",
+            () -> ResponseEntity.status(HttpStatus.CREATED).body(executions.incrementAndGet()));
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED, second.getStatusCode());
+        assertEquals(first.getBody(), second.getBody());
+        assertNull(first.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+        assertEquals("true", second.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("execute() - Doit isoler les clés par utilisateur")
+    void execute_ShouldIsolateKeysPerUser() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        store.execute(1L, "key-1", "payload", () -> ResponseEntity.ok(executions.incrementAndGet()));
+        store.execute(2L, "key-1", "payload", () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        // Assert
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("execute() - Doit refuser une clé réutilisée avec un autre contenu")
+    void execute_ShouldRejectKeyReusedWithDifferentPayload() {
+        // Arrange
+        store.execute(1L, "key-1", "payload", () -> ResponseEntity.ok("first"));
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class,
+            () -> store.execute(1L, "key-1", "other", () -> ResponseEntity.ok("second")));
+    }
+
+    @Test
+    @DisplayName("execute() - Doit libérer la clé après un échec")
+    void execute_ShouldReleaseKey_WhenActionFails() {
+        // Arrange
+        store.execute(1L, "key-1", "payload", () -> ResponseEntity.badRequest().build());
+        assertThrows(RuntimeException.class,
+            () -> store.execute(1L, "key-2", "payload", () -> {
+                throw new RuntimeException("boom");
+            }));
+
+        // Act
+        ResponseEntity<?> retry1 = store.execute(1L, "key-1", "payload", () -> ResponseEntity.ok("retried"));
+        ResponseEntity<?> retry2 = store.execute(1L, "key-2", "payload", () -> ResponseEntity.ok("retried"));
+
+        // Assert
+        assertEquals("retried", retry1.getBody());
+        assertEquals("retried", retry2.getBody());
+    }
+
+    @Test
+    @DisplayName("execute() - Doit regrouper les requêtes concurrentes sur la même exécution")
+    void execute_ShouldCoalesceConcurrentDuplicates() throws Exception {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            List<Future<ResponseEntity<?>>> futures = IntStream.range(0, 4)
+                .mapToObj(i -> executor.<ResponseEntity<?>>submit(() -> store.execute(1L, "key-1", "payload", () -> {
+                    executions.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return ResponseEntity.ok("done");
+                })))
+                .toList();
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            for (Future<ResponseEntity<?>> future : futures) {
+                assertEquals("done", future.get(5, TimeUnit.SECONDS).getBody());
+            }
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute() - Doit borner le nombre d'entrées conservées")
+    void execute_ShouldBoundStoredEntries() {
+        // Arrange
+        IdempotencyStore smallStore = new IdempotencyStore(Duration.ofHours(1), 2);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            smallStore.execute(1L, "key-" + i, "payload", () -> ResponseEntity.ok("ok"));
+        }
+
+        // Assert
+        assertTrue(smallStore.size() <= 2);
+    }
+
+    @Test
+    @DisplayName("execute() - Doit exécuter sans déduplication en l'absence de clé")
+    void execute_ShouldAlwaysRun_WhenNoKey() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        store.execute(1L, null, "payload", () -> ResponseEntity.ok(executions.incrementAndGet()));
+        store.execute(1L, null, "payload", () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        // Assert
+        assertEquals(2, executions.get());
+        assertEquals(0, store.size());
+    }
+}
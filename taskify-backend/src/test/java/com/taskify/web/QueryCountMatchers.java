@@ -0,0 +1,47 @@
+package com.taskify.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc matchers pinning the number of SQL statements a request executes.
+ * Relies on {@link QueryBudgetFilter}, which MockMvc runs like any other filter.
+ * Usage: {@code .andExpect(QueryCountMatchers.queryCount(2))}
+ */
+public final class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+    }
+
+    /**
+     * The request executed exactly this many statements.
+     */
+    public static ResultMatcher queryCount(int expected) {
+        return result -> assertEquals(expected, queryCountOf(result),
+            "SQL statements for " + describe(result));
+    }
+
+    /**
+     * The request executed at most this many statements.
+     */
+    public static ResultMatcher maxQueryCount(int max) {
+        return result -> {
+            int actual = queryCountOf(result);
+            assertTrue(actual <= max, "Expected at most " + max + " SQL statements for " + describe(result)
+                + " but got " + actual);
+        };
+    }
+
+    private static int queryCountOf(MvcResult result) {
+        Object count = result.getRequest().getAttribute(QueryBudgetFilter.QUERY_COUNT_ATTRIBUTE);
+        assertNotNull(count, "QueryBudgetFilter did not run for " + describe(result));
+        return (Integer) count;
+    }
+
+    private static String describe(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}
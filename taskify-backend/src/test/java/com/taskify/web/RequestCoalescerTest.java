@@ -0,0 +1,243 @@
+package com.taskify.web;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import com.taskify.model.TaskStatus;
+import com.taskify.service.AppointmentChangedEvent;
+import com.taskify.service.TaskChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitaires pour RequestCoalescer.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - RequestCoalescer")
+class RequestCoalescerTest {
+
+    private static final MediaType JSON = MediaType.APPLICATION_JSON;
+
+    private Counter executed;
+    private Counter coalesced;
+    private RequestCoalescer coalescer;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executed = registry.counter("reads", "outcome", "executed");
+        coalesced = registry.counter("reads", "outcome", "coalesced");
+        coalescer = new RequestCoalescer(executed, coalesced);
+    }
+
+    @Test
+    @DisplayName("execute() - Doit partager une seule exécution entre lectures concurrentes identiques")
+    void execute_ShouldShareOneExecution_ForConcurrentIdenticalReads() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            List<Future<byte[]>> futures = IntStream.range(0, 4)
+                .mapToObj(i -> executor.submit(() -> coalescer.execute("tasks", 1L, null, JSON, () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return new byte[] {1, 2, 3};
+                })))
+                .toList();
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            byte[] first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<byte[]> future : futures) {
+                assertSame(first, future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1.0, executed.count());
+            assertEquals(3.0, coalesced.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute() - Doit donner aux lectures partagées la phase de sérialisation du chargement")
+    void execute_ShouldReportLeaderSerializePhase_ToFollowers() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            List<Future<Long>> futures = IntStream.range(0, 2)
+                .mapToObj(i -> executor.submit(() -> {
+                    ServerTiming.begin(false, null);
+                    try {
+                        coalescer.execute("tasks", 1L, null, JSON, () -> {
+                            release.await(5, TimeUnit.SECONDS);
+                            ServerTiming.add(ServerTiming.Phase.SERIALIZE, 7_000_000);
+                            return new byte[] {1};
+                        });
+                        return ServerTiming.phaseNanos(ServerTiming.Phase.SERIALIZE);
+                    } finally {
+                        ServerTiming.end();
+                    }
+                }))
+                .toList();
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            for (Future<Long> future : futures) {
+                assertEquals(7_000_000L, future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1.0, coalesced.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute() - Doit exécuter séparément des lectures d'utilisateurs différents")
+    void execute_ShouldNotShare_AcrossUsers() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        coalescer.execute("tasks", 1L, null, JSON, () -> new byte[] {(byte) loads.incrementAndGet()});
+        coalescer.execute("tasks", 2L, null, JSON, () -> new byte[] {(byte) loads.incrementAndGet()});
+        coalescer.execute("tasks", 1L, null, JSON, () -> new byte[] {(byte) loads.incrementAndGet()});
+
+        // Assert
+        assertEquals(3, loads.get());
+        assertEquals(0.0, coalesced.count());
+    }
+
+    @Test
+    @DisplayName("execute() - Doit exécuter séparément des lectures négociées dans des formats différents")
+    void execute_ShouldNotShare_AcrossContentTypes() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<byte[]> json = executor.submit(() -> coalescer.execute("tasks", 1L, null, JSON, () -> {
+                release.await(5, TimeUnit.SECONDS);
+                return new byte[] {'['};
+            }));
+            Future<byte[]> cbor = executor.submit(() -> coalescer.execute("tasks", 1L, null,
+                MediaType.APPLICATION_CBOR, () -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return new byte[] {(byte) 0x9f};
+                }));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            assertEquals('[', json.get(5, TimeUnit.SECONDS)[0]);
+            assertEquals((byte) 0x9f, cbor.get(5, TimeUnit.SECONDS)[0]);
+            assertEquals(2.0, executed.count());
+            assertEquals(0.0, coalesced.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute() - Ne doit pas partager une lecture commencée avant une écriture de l'utilisateur")
+    void execute_ShouldNotJoinReadStartedBeforeOwnWrite() throws Exception {
+        // Arrange : une lecture de l'utilisateur 1 est en cours, une autre de l'utilisateur 2 aussi
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<byte[]> before = executor.submit(() -> coalescer.execute("tasks", 1L, null, JSON, () -> {
+                release.await(5, TimeUnit.SECONDS);
+                return new byte[] {'o', 'l', 'd'};
+            }));
+            Future<byte[]> other = executor.submit(() -> coalescer.execute("tasks", 2L, null, JSON, () -> {
+                release.await(5, TimeUnit.SECONDS);
+                return new byte[] {'2'};
+            }));
+            Thread.sleep(100);
+
+            // Act : l'utilisateur 1 crée une tâche puis relit sa liste
+            coalescer.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Kind.CREATED, 1L,
+                new TaskChangedEvent.Snapshot(7L, "New", null, TaskStatus.TODO)));
+            byte[] after = coalescer.execute("tasks", 1L, null, JSON, () -> new byte[] {'n', 'e', 'w'});
+            release.countDown();
+
+            // Assert
+            assertEquals("new", new String(after));
+            assertEquals("old", new String(before.get(5, TimeUnit.SECONDS)));
+            assertEquals("2", new String(other.get(5, TimeUnit.SECONDS)));
+            assertEquals(3.0, executed.count());
+            assertEquals(0.0, coalesced.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("onAppointmentChanged() - Doit laisser les autres utilisateurs partager leurs lectures")
+    void onAppointmentChanged_ShouldOnlyInvalidateOwner() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<byte[]> leader = executor.submit(() -> coalescer.execute("appointments", 2L, null, JSON, () -> {
+                release.await(5, TimeUnit.SECONDS);
+                return new byte[] {'['};
+            }));
+            Thread.sleep(100);
+
+            // Act : un autre utilisateur modifie un rendez-vous
+            coalescer.onAppointmentChanged(new AppointmentChangedEvent(1L, 3L));
+            Future<byte[]> follower = executor.submit(() -> coalescer.execute("appointments", 2L, null, JSON,
+                () -> new byte[] {'x'}));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            assertSame(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1.0, coalesced.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute() - Doit propager l'erreur de chargement")
+    void execute_ShouldPropagateLoaderFailure() {
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> coalescer.execute("tasks", 1L, null, JSON, () -> {
+                throw new RuntimeException("Database unavailable");
+            }));
+        assertEquals("Database unavailable", exception.getMessage());
+
+        // L'échec ne doit pas bloquer les lectures suivantes
+        assertEquals(1, coalescer.execute("tasks", 1L, null, JSON, () -> new byte[] {9}).length);
+    }
+}
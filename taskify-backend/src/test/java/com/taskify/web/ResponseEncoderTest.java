@@ -0,0 +1,130 @@
+package com.taskify.web;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.accept.ContentNegotiationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskify.controller.AppointmentController.AppointmentResponse;
+import com.taskify.controller.TaskController.TaskResponse;
+import com.taskify.model.Appointment;
+import com.taskify.model.Task;
+import com.taskify.model.TaskStatus;
+
+/**
+ * Tests unitaires pour ResponseEncoder.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - ResponseEncoder")
+class ResponseEncoderTest {
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ResponseEncoder encoder;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        // Mêmes réglages que les ObjectMapper construits par Spring Boot
+        json = builder().build();
+        cbor = builder().factory(new CBORFactory()).build();
+        ObjectMapper smile = builder().factory(new SmileFactory()).build();
+        encoder = new ResponseEncoder(json,
+            new MappingJackson2CborHttpMessageConverter(cbor),
+            new MappingJackson2SmileHttpMessageConverter(smile),
+            new ContentNegotiationManager());
+    }
+
+    @Test
+    @DisplayName("encode() - Doit écrire les tâches octet pour octet comme la sérialisation des DTO")
+    void encode_ShouldMatchDtoSerialization_ForTasks() throws Exception {
+        // Arrange
+        Task withDescription = task(1L, "Première", "Détails \"échappés\"", TaskStatus.TODO);
+        Task withoutDescription = task(2L, "Deuxième", null, TaskStatus.DONE);
+        List<Task> tasks = List.of(withDescription, withoutDescription);
+        List<TaskResponse> responses = tasks.stream().map(TaskResponse::fromTask).toList();
+
+        // Act
+        byte[] streamedJson = encoder.encode(MediaType.APPLICATION_JSON,
+            generator -> TaskResponse.writeArray(generator, tasks));
+        byte[] streamedCbor = encoder.encode(MediaType.APPLICATION_CBOR,
+            generator -> TaskResponse.writeArray(generator, tasks));
+
+        // Assert
+        assertArrayEquals(json.writeValueAsBytes(responses), streamedJson);
+        assertEquals(cbor.readTree(cbor.writeValueAsBytes(responses)), cbor.readTree(streamedCbor));
+    }
+
+    @Test
+    @DisplayName("encode() - Doit écrire les rendez-vous et leurs dates comme la sérialisation des DTO")
+    void encode_ShouldMatchDtoSerialization_ForAppointments() throws Exception {
+        // Arrange
+        List<Appointment> appointments = List.of(
+            appointment(1L, "Dentiste", LocalDateTime.of(2025, 3, 1, 9, 0)),
+            appointment(2L, "Réunion", LocalDateTime.of(2025, 3, 1, 14, 30, 15, 120_000_000)));
+        List<AppointmentResponse> responses = appointments.stream().map(AppointmentResponse::fromAppointment).toList();
+
+        // Act
+        byte[] streamed = encoder.encode(MediaType.APPLICATION_JSON,
+            generator -> AppointmentResponse.writeArray(generator, appointments));
+
+        // Assert
+        assertArrayEquals(json.writeValueAsBytes(responses), streamed);
+    }
+
+    @Test
+    @DisplayName("negotiate() - Doit choisir le format préféré et retomber sur JSON")
+    void negotiate_ShouldPickPreferredFormat_AndDefaultToJson() {
+        // Act & Assert
+        assertEquals(MediaType.APPLICATION_CBOR, encoder.negotiate(request("application/json;q=0.5, application/cbor")));
+        assertEquals(ResponseEncoder.APPLICATION_SMILE, encoder.negotiate(request("application/x-jackson-smile")));
+        assertEquals(MediaType.APPLICATION_JSON, encoder.negotiate(request("*/*")));
+        assertEquals(MediaType.APPLICATION_JSON, encoder.negotiate(request("text/html")));
+        assertEquals(MediaType.APPLICATION_JSON, encoder.negotiate(request("not a media type")));
+        assertEquals(MediaType.APPLICATION_JSON, encoder.negotiate(request(null)));
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return new Jackson2ObjectMapperBuilder()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static MockHttpServletRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        return request;
+    }
+
+    private static Task task(Long id, String title, String description, TaskStatus status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        return task;
+    }
+
+    private static Appointment appointment(Long id, String subject, LocalDateTime date) {
+        Appointment appointment = new Appointment();
+        appointment.setId(id);
+        appointment.setSubject(subject);
+        appointment.setDate(date);
+        return appointment;
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskify.web;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.taskify.web.SlowRequestRecorder.SlowRequest;
+
+/**
+ * Tests unitaires pour SlowRequestRecorder.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - SlowRequestRecorder")
+class SlowRequestRecorderTest {
+
+    private SlowRequestRecorder recorder;
+
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        recorder = new SlowRequestRecorder(3, Duration.ofHours(1), 2);
+    }
+
+    @SuppressWarnings("unused")
+    @AfterEach
+    void tearDown() {
+        recorder.destroy();
+    }
+
+    @Test
+    @DisplayName("record() - Doit garder uniquement les K requêtes les plus lentes")
+    void record_ShouldKeepSlowestK() {
+        // Arrange & Act
+        for (long millis : new long[] {5, 40, 10, 30, 20}) {
+            recorder.record(TimeUnit.MILLISECONDS.toNanos(millis), request(millis));
+        }
+
+        // Assert
+        List<SlowRequest> slowest = recorder.windows().get(0).slowest();
+        assertEquals(List.of(40.0, 30.0, 20.0), slowest.stream().map(SlowRequest::totalMillis).toList());
+        assertFalse(recorder.isCandidate(TimeUnit.MILLISECONDS.toNanos(15)));
+        assertTrue(recorder.isCandidate(TimeUnit.MILLISECONDS.toNanos(25)));
+    }
+
+    @Test
+    @DisplayName("record() - Doit rester correct sous enregistrements concurrents")
+    void record_ShouldKeepSlowestKUnderContention() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        IntStream.rangeClosed(1, 10_000).forEach(i -> executor.execute(() ->
+            recorder.record(TimeUnit.MICROSECONDS.toNanos(i), request(i / 1000.0))));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        List<SlowRequest> slowest = recorder.windows().get(0).slowest();
+        assertEquals(List.of(10.0, 9.999, 9.998), slowest.stream().map(SlowRequest::totalMillis).toList());
+    }
+
+    private static SlowRequest request(double millis) {
+        return new SlowRequest(Instant.now(), "GET", "/api/tasks", 200, millis, 0, 0, 0, 0, 0, 0, List.of());
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskify.web;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.taskify.web.SpaceSaving.Entry;
+
+/**
+ * Tests unitaires pour SpaceSaving.
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - SpaceSaving")
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("top() - Doit trouver les utilisateurs lourds parmi beaucoup d'utilisateurs légers")
+    void top_ShouldFindHeavyHittersWithinErrorBound() {
+        // Arrange
+        SpaceSaving summary = new SpaceSaving(50);
+        Map<Long, Long> exact = new HashMap<>();
+        Random random = new Random(42);
+
+        // Act: 3 utilisateurs font 30% du trafic, 100 000 autres se partagent le reste
+        for (int i = 0; i < 200_000; i++) {
+            long user = random.nextDouble() < 0.3 ? random.nextInt(3) : 1_000 + random.nextInt(100_000);
+            long weight = 1 + random.nextInt(10);
+            summary.add(user, weight);
+            exact.merge(user, weight, Long::sum);
+        }
+
+        // Assert
+        List<Entry> top = summary.top(3);
+        assertEquals(List.of(0L, 1L, 2L), top.stream().map(Entry::key).sorted().toList());
+        long maxError = summary.total() / 50;
+        for (Entry entry : top) {
+            long actual = exact.get(entry.key());
+            assertTrue(entry.count() >= actual);
+            assertTrue(entry.count() - entry.error() <= actual);
+            assertTrue(entry.error() <= maxError);
+        }
+    }
+
+    @Test
+    @DisplayName("add() - Doit garder un nombre de compteurs fixe")
+    void add_ShouldKeepCapacityCounters() {
+        // Arrange
+        SpaceSaving summary = new SpaceSaving(10);
+
+        // Act
+        for (long user = 0; user < 1_000; user++) {
+            summary.add(user, 1);
+        }
+
+        // Assert
+        assertEquals(10, summary.top(Integer.MAX_VALUE).size());
+        assertEquals(1_000, summary.total());
+    }
+
+    @Test
+    @DisplayName("add() - Doit évincer le plus petit compteur et lui faire hériter de son compte")
+    void add_ShouldEvictSmallestCounter() {
+        // Arrange
+        SpaceSaving summary = new SpaceSaving(3);
+        summary.add(1L, 5);
+        summary.add(2L, 1);
+        summary.add(3L, 3);
+        summary.add(1L, 2);
+
+        // Act
+        summary.add(4L, 1);
+
+        // Assert
+        assertEquals(List.of(new Entry(1L, 7, 0), new Entry(3L, 3, 0), new Entry(4L, 2, 1)), summary.top(3));
+    }
+}
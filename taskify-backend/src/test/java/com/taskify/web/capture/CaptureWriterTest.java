@@ -0,0 +1,152 @@
+package com.taskify.web.capture;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Tests unitaires pour la capture de trafic (CaptureWriter, CaptureReader, BodyShape).
+ * Pattern AAA: Arrange - Act - Assert
+ */
+@DisplayName("Tests unitaires - Capture de trafic")
+class CaptureWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("offer() - Doit écrire des enregistrements relisibles et anonymisés")
+    void offer_ShouldWriteReadableAnonymizedRecords() throws Exception {
+        // Arrange
+        CaptureWriter writer = new CaptureWriter(directory, DataSize.ofMegabytes(1), 2, 16, "test-key",
+            new SimpleMeterRegistry());
+        byte[] body = "{\"title\":\"Buy milk\",\"status\":\"DONE\"}".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        writer.offer(1_000_000L, 1500L, "POST", "/api/tasks", 201, "alice@test.com", body);
+        writer.offer(1_002_000L, 800L, "GET", "/api/tasks/{id}", 404, "bob@test.com", null);
+        writer.destroy();
+        List<CaptureRecord> records = CaptureReader.read(directory);
+
+        // Assert
+        assertEquals(2, records.size());
+        CaptureRecord created = records.get(0);
+        assertEquals(1_000_000L, created.startEpochMicros());
+        assertEquals("POST", created.method());
+        assertEquals("/api/tasks", created.pathTemplate());
+        assertEquals(201, created.status());
+        assertEquals("title:s8,status:=DONE", created.bodyShape());
+        assertEquals("/api/tasks/{id}", records.get(1).pathTemplate());
+        assertEquals(404, records.get(1).status());
+        assertNotEquals(0L, created.userPseudonym());
+        assertNotEquals(created.userPseudonym(), records.get(1).userPseudonym());
+    }
+
+    @Test
+    @DisplayName("offer() - Doit garder chaque fichier quand plusieurs roulent dans la même milliseconde")
+    void offer_ShouldKeepEveryFile_WhenRollingWithinOneMillisecond() throws Exception {
+        // Arrange : chaque enregistrement dépasse la taille maximale et ouvre un nouveau fichier
+        CaptureWriter writer = new CaptureWriter(directory, DataSize.ofBytes(1), 10, 16, "test-key",
+            new SimpleMeterRegistry());
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            writer.offer(1_000_000L + i, 100L, "GET", "/api/tasks", 200, "alice@test.com", null);
+        }
+        writer.destroy();
+        List<CaptureRecord> records = CaptureReader.read(directory);
+
+        // Assert
+        assertEquals(5, records.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1_000_000L + i, records.get(i).startEpochMicros());
+        }
+    }
+
+    @Test
+    @DisplayName("BodyShape.of() - Doit garder les types sans les valeurs")
+    void bodyShape_ShouldKeepTypesNotValues() {
+        // Arrange
+        byte[] body = "{\"subject\":\"Secret\",\"date\":\"2030-01-15T10:00:00\",\"atomic\":false,\"operations\":[1]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        String shape = BodyShape.of(body);
+
+        // Assert
+        assertEquals("subject:s6,date:d,atomic:b,operations:a", shape);
+        assertEquals("?", BodyShape.of("not json".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("BodyShape.of() - Ne doit pas recopier une chaîne en majuscules hors des énumérations connues")
+    void bodyShape_ShouldNotCopyUppercaseSecrets() {
+        // Arrange
+        byte[] body = "{\"email\":\"a@b.c\",\"password\":\"HUNTER2\",\"status\":\"TODO\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        String shape = BodyShape.of(body);
+
+        // Assert
+        assertEquals("email:s5,password:s7,status:=TODO", shape);
+    }
+
+    @Test
+    @DisplayName("TrafficCaptureFilter - Ne doit pas capturer le corps d'une requête de connexion")
+    void filter_ShouldNotCaptureLoginBody() throws Exception {
+        // Arrange
+        CaptureWriter writer = new CaptureWriter(directory, DataSize.ofMegabytes(1), 2, 16, "test-key",
+            new SimpleMeterRegistry());
+        TrafficCaptureFilter filter = new TrafficCaptureFilter(writer, 1.0, 8192);
+        MockHttpServletRequest login = jsonRequest("/api/auth/login",
+            "{\"email\":\"alice@test.com\",\"password\":\"HUNTER2\"}");
+        MockHttpServletRequest create = jsonRequest("/api/tasks", "{\"title\":\"Buy milk\"}");
+
+        // Act
+        filter.doFilter(login, new MockHttpServletResponse(), new MockFilterChain(new BodyReadingServlet()));
+        filter.doFilter(create, new MockHttpServletResponse(), new MockFilterChain(new BodyReadingServlet()));
+        writer.destroy();
+        List<CaptureRecord> records = CaptureReader.read(directory);
+
+        // Assert
+        assertEquals(2, records.size());
+        assertEquals("", records.get(0).bodyShape());
+        assertEquals("title:s8", records.get(1).bodyShape());
+    }
+
+    private static MockHttpServletRequest jsonRequest(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /**
+     * Reads the whole body, as a controller would, so that a caching wrapper sees it.
+     */
+    private static class BodyReadingServlet extends HttpServlet {
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            request.getInputStream().readAllBytes();
+        }
+    }
+}